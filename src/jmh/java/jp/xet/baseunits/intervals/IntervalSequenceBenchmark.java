@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.intervals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link IntervalSequence}のベンチマーククラス。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class IntervalSequenceBenchmark {
+	
+	@Param({
+		"10",
+		"1000"
+	})
+	int size;
+	
+	List<Interval<Integer>> intervals;
+	
+	IntervalSequence<Integer> sequence;
+	
+	
+	@Benchmark
+	public IntervalSequence<Integer> add() {
+		IntervalSequence<Integer> result = new IntervalSequence<Integer>();
+		for (Interval<Integer> interval : intervals) {
+			result.add(interval);
+		}
+		return result;
+	}
+	
+	@Benchmark
+	public IntervalSequence<Integer> gaps() {
+		return sequence.gaps();
+	}
+	
+	@Benchmark
+	public IntervalSequence<Integer> intersections() {
+		return sequence.intersections();
+	}
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(0);
+		intervals = new ArrayList<Interval<Integer>>(size);
+		for (int i = 0; i < size; i++) {
+			int lower = random.nextInt(size * 10);
+			intervals.add(Interval.over(lower, true, lower + random.nextInt(20), false));
+		}
+		sequence = add();
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.intervals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import jp.xet.baseunits.time.TimePoint;
+import jp.xet.baseunits.time.TimePointInterval;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link OverlapDetector}のベンチマーククラス。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class OverlapDetectorBenchmark {
+	
+	@Param({
+		"1000",
+		"10000"
+	})
+	int size;
+	
+	List<TimePointInterval> intervals;
+	
+	
+	@Benchmark
+	public int bruteForce() {
+		int count = 0;
+		for (int i = 0; i < intervals.size(); i++) {
+			for (int j = i + 1; j < intervals.size(); j++) {
+				if (intervals.get(i).intersects(intervals.get(j))) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+	
+	@Benchmark
+	public OverlapDetector.Concurrency<TimePoint> maxConcurrency() {
+		return new OverlapDetector<TimePoint>(intervals).maxConcurrency();
+	}
+	
+	@Benchmark
+	public List<OverlapDetector.Overlap<TimePoint>> overlaps() {
+		return new OverlapDetector<TimePoint>(intervals).overlaps();
+	}
+	
+	@Benchmark
+	public List<OverlapDetector.Overlap<TimePoint>> overlapsParallel() {
+		return new OverlapDetector<TimePoint>(intervals).overlaps(ForkJoinPool.commonPool());
+	}
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(0);
+		intervals = new ArrayList<TimePointInterval>(size);
+		for (int i = 0; i < size; i++) {
+			long lower = random.nextInt(size * 100) * 1000L;
+			intervals.add(TimePointInterval.over(TimePoint.from(lower), true,
+					TimePoint.from(lower + random.nextInt(500) * 1000L), false));
+		}
+	}
+}
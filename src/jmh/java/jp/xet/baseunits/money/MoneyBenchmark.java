@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Money}のベンチマーククラス。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class MoneyBenchmark {
+	
+	Money dollars1 = Money.dollars(new BigDecimal("1234.56"));
+	
+	Money dollars2 = Money.dollars(new BigDecimal("7890.12"));
+	
+	Money yens1 = Money.yens(new BigDecimal("123456"));
+	
+	Money yens2 = Money.yens(new BigDecimal("789012"));
+	
+	List<Money> ledger = new ArrayList<Money>();
+	
+	
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < 1000; i++) {
+			ledger.add(Money.valueOf(BigDecimal.valueOf(i * 7919L % 100000, 2), dollars1.breachEncapsulationOfCurrency()));
+		}
+	}
+	
+	@Benchmark
+	public Money plusDollars() {
+		return dollars1.plus(dollars2);
+	}
+	
+	@Benchmark
+	public Money plusYens() {
+		return yens1.plus(yens2);
+	}
+	
+	@Benchmark
+	public Money minusDollars() {
+		return dollars1.minus(dollars2);
+	}
+	
+	@Benchmark
+	public Money sumLedger() {
+		return Money.sum(ledger);
+	}
+	
+	@Benchmark
+	public Money timesYens() {
+		return yens1.times(3);
+	}
+}
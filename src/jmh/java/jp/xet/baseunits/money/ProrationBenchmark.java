@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import jp.xet.baseunits.util.Ratio;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Proration}のベンチマーククラス。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class ProrationBenchmark {
+	
+	@Param({
+		"3",
+		"100"
+	})
+	int parts;
+	
+	Money total = Money.dollars(new BigDecimal("1000000.00"));
+	
+	Ratio ratio = Ratio.of(1, 3).times(Ratio.of(108, 100));
+	
+	long[] proportions;
+	
+	long[] results;
+	
+	
+	@Benchmark
+	public Money[] proratedOver() {
+		return Proration.proratedOver(total, proportions);
+	}
+	
+	@Benchmark
+	public Money partOfWhole() {
+		return Proration.partOfWhole(total, ratio);
+	}
+	
+	@Benchmark
+	public long[] proratedUnitsOver() {
+		return Proration.proratedUnitsOver(100000000L, proportions, results);
+	}
+	
+	@Setup
+	public void setUp() {
+		proportions = new long[parts];
+		results = new long[parts];
+		for (int i = 0; i < parts; i++) {
+			proportions[i] = i + 1;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import java.util.concurrent.TimeUnit;
+
+import jp.xet.baseunits.time.spec.DateSpecifications;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BusinessCalendar}のベンチマーククラス。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class BusinessCalendarBenchmark {
+	
+	@Param({
+		"5",
+		"250"
+	})
+	int numberOfDays;
+	
+	BusinessCalendar calendar;
+	
+	CalendarDate date = CalendarDate.from(2019, 6, 14);
+	
+	
+	@Benchmark
+	public boolean isBusinessDay() {
+		return calendar.isBusinessDay(date);
+	}
+	
+	@Benchmark
+	public CalendarDate plusBusinessDays() {
+		return calendar.plusBusinessDays(date, numberOfDays);
+	}
+	
+	@Setup
+	public void setUp() {
+		calendar = new BusinessCalendar();
+		calendar.addHolidaySpec(DateSpecifications.fixed(1, 1)); // 元旦
+		calendar.addHolidaySpec(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.JAN, DayOfWeek.MONDAY, 2)); // 成人の日
+		calendar.addHolidaySpec(DateSpecifications.fixed(2, 11)); // 建国記念日
+		calendar.addHolidaySpec(DateSpecifications.fixed(4, 29)); // 昭和の日
+		calendar.addHolidaySpec(DateSpecifications.fixed(5, 3)); // 憲法記念日
+		calendar.addHolidaySpec(DateSpecifications.fixed(5, 4)); // みどりの日
+		calendar.addHolidaySpec(DateSpecifications.fixed(5, 5)); // こどもの日
+		calendar.addHolidaySpec(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.JUL, DayOfWeek.MONDAY, 3)); // 海の日
+		calendar.addHolidaySpec(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.SEP, DayOfWeek.MONDAY, 3)); // 敬老の日
+		calendar.addHolidaySpec(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.OCT, DayOfWeek.MONDAY, 2)); // 体育の日
+		calendar.addHolidaySpec(DateSpecifications.fixed(11, 3)); // 文化の日
+		calendar.addHolidaySpec(DateSpecifications.fixed(11, 23)); // 勤労感謝の日
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EpochMillisInterval}と{@link TimePointInterval}を比較するベンチマーククラス。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class EpochMillisIntervalBenchmark {
+	
+	TimePointInterval booking;
+	
+	TimePointInterval request;
+	
+	EpochMillisInterval bookingMillis;
+	
+	EpochMillisInterval requestMillis;
+	
+	long millis;
+	
+	
+	@Benchmark
+	public boolean epochMillisIncludes() {
+		return bookingMillis.includes(millis);
+	}
+	
+	@Benchmark
+	public EpochMillisInterval epochMillisIntersect() {
+		return bookingMillis.intersect(requestMillis);
+	}
+	
+	@Benchmark
+	public boolean epochMillisIntersects() {
+		return bookingMillis.intersects(requestMillis);
+	}
+	
+	@Benchmark
+	public boolean timePointIncludes() {
+		return booking.includes(TimePoint.from(millis));
+	}
+	
+	@Benchmark
+	public TimePointInterval timePointIntersect() {
+		return booking.intersect(request);
+	}
+	
+	@Benchmark
+	public boolean timePointIntersects() {
+		return booking.intersects(request);
+	}
+	
+	@Setup
+	public void setUp() {
+		TimePoint start = TimePoint.atMidnightUTC(2019, 6, 14);
+		booking = TimePointInterval.over(start, start.plus(Duration.hours(2)));
+		request = TimePointInterval.over(start.plus(Duration.hours(1)), start.plus(Duration.hours(3)));
+		bookingMillis = EpochMillisInterval.from(booking);
+		requestMillis = EpochMillisInterval.from(request);
+		millis = start.plus(Duration.minutes(30)).toEpochMillisec();
+	}
+}
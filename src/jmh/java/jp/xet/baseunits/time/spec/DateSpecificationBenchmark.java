@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time.spec;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import jp.xet.baseunits.time.CalendarDate;
+import jp.xet.baseunits.time.CalendarInterval;
+import jp.xet.baseunits.time.DayOfWeek;
+import jp.xet.baseunits.time.MonthOfYear;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DateSpecification}のベンチマーククラス。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class DateSpecificationBenchmark {
+	
+	@Param({
+		"false",
+		"true"
+	})
+	boolean compiled;
+	
+	DateSpecification spec;
+	
+	CalendarDate date = CalendarDate.from(2019, 6, 14);
+	
+	CalendarInterval interval = CalendarInterval.inclusive(2019, 1, 1, 2019, 12, 31);
+	
+	
+	@Benchmark
+	public boolean isSatisfiedBy() {
+		return spec.isSatisfiedBy(date);
+	}
+	
+	@Benchmark
+	public int iterateOver() {
+		int count = 0;
+		Iterator<CalendarDate> it = spec.iterateOver(interval);
+		while (it.hasNext()) {
+			it.next();
+			count++;
+		}
+		return count;
+	}
+	
+	@Setup
+	public void setUp() {
+		DateSpecification holidays = DateSpecifications.dayOfWeek(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)
+			.or(DateSpecifications.fixed(1, 1)) // 元旦
+			.or(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.JAN, DayOfWeek.MONDAY, 2)) // 成人の日
+			.or(DateSpecifications.fixed(2, 11)) // 建国記念日
+			.or(DateSpecifications.fixed(4, 29)) // 昭和の日
+			.or(DateSpecifications.fixed(5, 3)) // 憲法記念日
+			.or(DateSpecifications.fixed(5, 4)) // みどりの日
+			.or(DateSpecifications.fixed(5, 5)) // こどもの日
+			.or(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.JUL, DayOfWeek.MONDAY, 3)) // 海の日
+			.or(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.SEP, DayOfWeek.MONDAY, 3)) // 敬老の日
+			.or(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.OCT, DayOfWeek.MONDAY, 2)) // 体育の日
+			.or(DateSpecifications.fixed(11, 3)) // 文化の日
+			.or(DateSpecifications.fixed(11, 23)); // 勤労感謝の日
+		DateSpecification businessDays = holidays.not();
+		spec = compiled ? DateSpecifications.compile(businessDays) : businessDays;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time.spec;
+
+import java.util.concurrent.TimeUnit;
+
+import jp.xet.baseunits.time.BusinessCalendar;
+import jp.xet.baseunits.time.CalendarDate;
+import jp.xet.baseunits.time.CalendarMonth;
+import jp.xet.baseunits.time.DayOfMonth;
+import jp.xet.baseunits.time.DayOfWeek;
+import jp.xet.baseunits.time.spec.MonthlyFixedBusinessDateSpecification.Shifter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MonthlyDateSpecification}のベンチマーククラス。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class MonthlyDateSpecificationBenchmark {
+	
+	@Param({
+		"0",
+		"64"
+	})
+	int cacheSize;
+	
+	MonthlyDateSpecification secondTuesday;
+	
+	MonthlyDateSpecification paymentDay;
+	
+	CalendarMonth month = CalendarMonth.from(2019, 6);
+	
+	
+	@Benchmark
+	public CalendarDate fixedBusiness() {
+		return paymentDay.ofYearMonth(month);
+	}
+	
+	@Benchmark
+	public CalendarDate floating() {
+		return secondTuesday.ofYearMonth(month);
+	}
+	
+	@Setup
+	public void setUp() {
+		DateSpecifications.configureOccurrenceCache(cacheSize);
+		try {
+			BusinessCalendar calendar = BusinessCalendar.builder()
+				.addHolidaySpec(DateSpecifications.fixed(1, 1))
+				.addHolidaySpec(DateSpecifications.fixed(5, 3))
+				.addHolidaySpec(DateSpecifications.fixed(11, 23))
+				.build();
+			secondTuesday = DateSpecifications.nthOccuranceOfWeekdayInEveryMonth(DayOfWeek.TUESDAY, 2);
+			paymentDay = DateSpecifications.fixedBusiness(DayOfMonth.valueOf(15), Shifter.NEXT, calendar);
+		} finally {
+			DateSpecifications.configureOccurrenceCache(DateSpecifications.DEFAULT_OCCURRENCE_CACHE_SIZE);
+		}
+	}
+}
@@ -17,7 +17,6 @@ package jp.xet.baseunits.intervals;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -33,6 +32,23 @@ import com.google.common.base.Preconditions;
  */
 public class IntervalSequence<T extends Comparable<T> & Serializable> implements Iterable<Interval<T>> {
 	
+	/**
+	 * 上側限界{@code upper}までの区間と、下側限界{@code lower}からの区間が、重なるか接しているかどうかを返す。
+	 * 
+	 * @param upper 前の区間の上側限界
+	 * @param lower 後の区間の下側限界。{@code upper}を持つ区間の下側限界以上であること
+	 * @return 重なるか接している場合は{@code true}、そうでない場合は{@code false}
+	 */
+	private static <T extends Comparable<T> & Serializable>boolean isConnected(IntervalLimit<T> upper,
+			IntervalLimit<T> lower) {
+		if (upper.isInfinity() || lower.isInfinity()) {
+			return true;
+		}
+		int comparison = lower.getValue().compareTo(upper.getValue());
+		return comparison < 0 || (comparison == 0 && (lower.isClosed() || upper.isClosed()));
+	}
+	
+	
 	final List<Interval<T>> intervals;
 	
 	final Comparator<Interval<T>> comparator;
@@ -63,17 +79,61 @@ public class IntervalSequence<T extends Comparable<T> & Serializable> implements
 		this.comparator = comparator;
 	}
 	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * @param comparator 各区間のソート条件を決定する {@link Comparator}
+	 * @param intervals 要素とする区間のリスト。このインスタンスが所有し、ソートする
+	 */
+	private IntervalSequence(Comparator<Interval<T>> comparator, ArrayList<Interval<T>> intervals) {
+		this.comparator = comparator;
+		this.intervals = intervals;
+		intervals.sort(comparator);
+	}
+	
 	/**
 	 * 区間列に{@link Interval 区間}を追加する。
 	 * 
+	 * <p>挿入位置は二分探索で求める。{@link Comparator}上で等しい区間が既にある場合は、その後ろに追加する。
+	 * 多数の区間を追加する場合は{@link #addAll(Iterable)}を利用すること。</p>
+	 * 
 	 * @param interval 追加する{@link Interval 区間}
 	 * @throws NullPointerException 引数に{@code null}を与えた場合
 	 * @since 1.0
 	 */
 	public void add(Interval<T> interval) {
 		Preconditions.checkNotNull(interval);
-		intervals.add(interval);
-		Collections.sort(intervals, comparator);
+		int low = 0;
+		int high = intervals.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (comparator.compare(intervals.get(mid), interval) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		intervals.add(low, interval);
+	}
+	
+	/**
+	 * 区間列に複数の{@link Interval 区間}を追加する。
+	 * 
+	 * <p>全ての区間を追加した後に1度だけソートする。結果は、各区間を順に{@link #add(Interval)}した場合と同じである。</p>
+	 * 
+	 * @param intervals 追加する{@link Interval 区間}
+	 * @throws NullPointerException 引数またはその要素に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public void addAll(Iterable<? extends Interval<T>> intervals) {
+		Preconditions.checkNotNull(intervals);
+		List<Interval<T>> added = new ArrayList<Interval<T>>();
+		for (Interval<T> interval : intervals) {
+			Preconditions.checkNotNull(interval);
+			added.add(interval);
+		}
+		this.intervals.addAll(added);
+		this.intervals.sort(comparator);
 	}
 	
 	/**
@@ -131,10 +191,7 @@ public class IntervalSequence<T extends Comparable<T> & Serializable> implements
 	 * @since 1.0
 	 */
 	public IntervalSequence<T> gaps() {
-		IntervalSequence<T> gaps = new IntervalSequence<T>(comparator);
-		if (intervals.size() < 2) {
-			return gaps;
-		}
+		ArrayList<Interval<T>> gaps = new ArrayList<Interval<T>>();
 		for (int i = 1; i < intervals.size(); i++) {
 			Interval<T> left = intervals.get(i - 1);
 			Interval<T> right = intervals.get(i);
@@ -143,7 +200,7 @@ public class IntervalSequence<T extends Comparable<T> & Serializable> implements
 				gaps.add(gap);
 			}
 		}
-		return gaps;
+		return new IntervalSequence<T>(comparator, gaps);
 	}
 	
 	/**
@@ -158,10 +215,7 @@ public class IntervalSequence<T extends Comparable<T> & Serializable> implements
 	 * @since 1.0
 	 */
 	public IntervalSequence<T> intersections() {
-		IntervalSequence<T> intersections = new IntervalSequence<T>(comparator);
-		if (intervals.size() < 2) {
-			return intersections;
-		}
+		ArrayList<Interval<T>> intersections = new ArrayList<Interval<T>>();
 		for (int i = 1; i < intervals.size(); i++) {
 			Interval<T> left = intervals.get(i - 1);
 			Interval<T> right = intervals.get(i);
@@ -170,7 +224,7 @@ public class IntervalSequence<T extends Comparable<T> & Serializable> implements
 				intersections.add(intersection);
 			}
 		}
-		return intersections;
+		return new IntervalSequence<T>(comparator, intersections);
 	}
 	
 	/**
@@ -201,6 +255,61 @@ public class IntervalSequence<T extends Comparable<T> & Serializable> implements
 		return intervals.toString();
 	}
 	
+	/**
+	 * 要素区間のうち、重なっている区間同士及び接している区間同士を結合した区間列を返す。
+	 * 
+	 * <p>結果の区間列は互いに重ならず接しない区間からなり、その和集合はこの区間列の要素の和集合と等しい。
+	 * 空区間は無視する。結果の区間列の {@link Comparator} は、この区間列の {@link Comparator} を流用する。</p>
+	 * 
+	 * <p>要素を下側限界の順に並べ替えた後、1度の走査で結合する。</p>
+	 * 
+	 * @return 結合した区間列
+	 * @since #version#
+	 */
+	public IntervalSequence<T> union() {
+		List<Interval<T>> sorted = new ArrayList<Interval<T>>(intervals.size());
+		for (Interval<T> interval : intervals) {
+			if (interval.isEmpty() == false) {
+				sorted.add(interval);
+			}
+		}
+		sorted.sort(new IntervalComparatorLowerUpper<T>(false, false));
+		
+		ArrayList<Interval<T>> union = new ArrayList<Interval<T>>();
+		Interval<T> first = null;
+		IntervalLimit<T> lower = null;
+		IntervalLimit<T> upper = null;
+		for (Interval<T> interval : sorted) {
+			if (first != null && isConnected(upper, interval.lowerLimitObject) == false) {
+				union.add(first.newOfSameType(lower.getValue(), lower.isClosed(), upper.getValue(), upper.isClosed()));
+				first = null;
+			}
+			if (first == null) {
+				first = interval;
+				lower = interval.lowerLimitObject;
+				upper = interval.upperLimitObject;
+			} else {
+				// IntervalLimit#compareToは限界値の同一性で開閉を比較するため、値の比較を直接行う
+				IntervalLimit<T> otherLower = interval.lowerLimitObject;
+				if (lower.isInfinity() == false && otherLower.isClosed()
+						&& lower.getValue().compareTo(otherLower.getValue()) == 0) {
+					lower = otherLower;
+				}
+				IntervalLimit<T> otherUpper = interval.upperLimitObject;
+				if (upper.isInfinity() == false) {
+					int comparison = otherUpper.isInfinity() ? 1 : otherUpper.getValue().compareTo(upper.getValue());
+					if (comparison > 0 || (comparison == 0 && otherUpper.isClosed())) {
+						upper = otherUpper;
+					}
+				}
+			}
+		}
+		if (first != null) {
+			union.add(first.newOfSameType(lower.getValue(), lower.isClosed(), upper.getValue(), upper.isClosed()));
+		}
+		return new IntervalSequence<T>(comparator, union);
+	}
+	
 //	String toStringGraphically() {
 //		StringBuilder sb = new StringBuilder();
 //		for (Interval<T> interval : intervals) {
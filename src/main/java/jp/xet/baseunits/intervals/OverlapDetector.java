@@ -0,0 +1,440 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.intervals;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * 多数の区間の中から、互いに重なる区間の組や、同時に重なる区間の最大数を求めるクラス。
+ * 
+ * <p>区間を下側限界の順に1度だけソートし、その順に走査（スイープ）しながら、
+ * まだ終わっていない区間の集合を更新することで判定を行う。
+ * 区間数を{@code n}、重なる組の数を{@code k}とすると、計算量は{@code O(n log n + k)}である
+ * （ただし、端点の値が等しく重ならない区間同士も走査の対象となる）。
+ * 空区間は、どの区間とも重ならないものとして無視する。</p>
+ * 
+ * <p>このクラスは不変であり、スレッドセーフである。</p>
+ * 
+ * @param <T> 区間要素の型
+ * @author daisuke
+ * @since #version#
+ */
+public class OverlapDetector<T extends Comparable<T> & Serializable> {
+	
+	/** 並列に処理する場合に、1タスクあたりの区間数の下限 */
+	private static final int MIN_TASK_SIZE = 1024;
+	
+	
+	/**
+	 * 同じ側の限界同士を比較する。
+	 * 
+	 * <p>{@link IntervalLimit#compareTo(IntervalLimit)}と同じ順序だが、限界値が等しいかどうかを
+	 * 同一性ではなく{@link Comparable#compareTo(Object)}で判定する。</p>
+	 * 
+	 * @param limit1 限界1
+	 * @param limit2 限界2
+	 * @return 比較結果
+	 */
+	private static <T extends Comparable<T> & Serializable>int compare(IntervalLimit<T> limit1,
+			IntervalLimit<T> limit2) {
+		if (limit1.isInfinity() || limit2.isInfinity()) {
+			return limit1.compareTo(limit2);
+		}
+		int comparison = limit1.getValue().compareTo(limit2.getValue());
+		if (comparison != 0 || limit1.isClosed() == limit2.isClosed()) {
+			return comparison;
+		}
+		// 下側限界は閉じている方が、上側限界は開いている方が小さい
+		return limit1.isClosed() == limit1.isLower() ? -1 : 1;
+	}
+	
+	/**
+	 * 上側限界{@code upper}を持つ区間が、下側限界{@code lower}を持つ区間と重なり得るかどうかを返す。
+	 * 
+	 * @param upper 先行する区間の上側限界
+	 * @param lower 後続の区間の下側限界
+	 * @return 重なり得る場合は{@code true}、そうでない場合は{@code false}
+	 */
+	private static <T extends Comparable<T> & Serializable>boolean reaches(IntervalLimit<T> upper,
+			IntervalLimit<T> lower) {
+		if (upper.isInfinity() || lower.isInfinity()) {
+			return true;
+		}
+		int comparison = upper.getValue().compareTo(lower.getValue());
+		return comparison > 0 || (comparison == 0 && upper.isClosed() && lower.isClosed());
+	}
+	
+	/**
+	 * 上側限界{@code upper}を持つ区間が、下側限界の値が{@code lower}の値以上である全ての区間と重ならないかどうかを返す。
+	 * 
+	 * <p>下側限界の値が等しい区間同士の順序は開閉によらず不定であるため、値が等しい場合は重なり得るものとみなす。</p>
+	 * 
+	 * @param upper 先行する区間の上側限界
+	 * @param lower 後続の区間の下側限界
+	 * @return 重ならない場合は{@code true}、そうでない場合は{@code false}
+	 */
+	private static <T extends Comparable<T> & Serializable>boolean strictlyPrecedes(IntervalLimit<T> upper,
+			IntervalLimit<T> lower) {
+		return upper.isInfinity() == false && lower.isInfinity() == false
+				&& upper.getValue().compareTo(lower.getValue()) < 0;
+	}
+	
+	
+	/** 空でない区間を、下側限界の順にソートしたもの */
+	private final Entry<T>[] entries;
+	
+	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * <p>区間は{@link IntervalComparatorLowerUpper}（下側限界の昇順、上側限界の降順）でソートする。</p>
+	 * 
+	 * @param intervals 区間のコレクション
+	 * @throws NullPointerException 引数またはその要素に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public OverlapDetector(Collection<? extends Interval<T>> intervals) {
+		this(intervals, new IntervalComparatorLowerUpper<T>(false, false));
+	}
+	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * <p>{@code comparator}は、下側限界を昇順に並べるもの（{@code inverseLower}が{@code false}のもの）でなければならない。
+	 * 下側限界が等しい区間同士の順序は、結果の組の順序に影響する。</p>
+	 * 
+	 * @param intervals 区間のコレクション
+	 * @param comparator 区間のソート条件を決定する {@link IntervalComparatorLowerUpper}
+	 * @throws IllegalArgumentException {@code comparator}が下側限界を昇順に並べない場合
+	 * @throws NullPointerException 引数またはその要素に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	@SuppressWarnings("unchecked")
+	public OverlapDetector(Collection<? extends Interval<T>> intervals, IntervalComparatorLowerUpper<T> comparator) {
+		Preconditions.checkNotNull(intervals);
+		Preconditions.checkNotNull(comparator);
+		List<Entry<T>> list = new ArrayList<Entry<T>>(intervals.size());
+		int index = 0;
+		for (Interval<T> interval : intervals) {
+			Preconditions.checkNotNull(interval);
+			if (interval.isEmpty() == false) {
+				list.add(new Entry<T>(interval, index));
+			}
+			index++;
+		}
+		entries = list.toArray((Entry<T>[]) new Entry<?>[list.size()]);
+		Arrays.sort(entries, (e1, e2) -> comparator.compare(e1.interval, e2.interval));
+		for (int i = 1; i < entries.length; i++) {
+			Preconditions.checkArgument(
+					entries[i - 1].interval.lowerLimitObject.compareTo(entries[i].interval.lowerLimitObject) <= 0,
+					"comparator must sort intervals by ascending lower limit");
+		}
+	}
+	
+	/**
+	 * 同時に重なる区間の最大数と、その数の区間が重なっている区間を返す。
+	 * 
+	 * @return 最大の重なり
+	 * @since #version#
+	 */
+	public Concurrency<T> maxConcurrency() {
+		int size = entries.length;
+		if (size == 0) {
+			return new Concurrency<T>(0, null);
+		}
+		List<IntervalLimit<T>> lowers = new ArrayList<IntervalLimit<T>>(size);
+		List<IntervalLimit<T>> uppers = new ArrayList<IntervalLimit<T>>(size);
+		for (Entry<T> entry : entries) {
+			lowers.add(entry.interval.lowerLimitObject);
+			uppers.add(entry.interval.upperLimitObject);
+		}
+		Collections.sort(lowers, OverlapDetector::compare);
+		Collections.sort(uppers, OverlapDetector::compare);
+		
+		// 同じ値の限界同士では、閉じた下側限界を閉じた上側限界より先に、それ以外は上側限界を先に処理する
+		int count = 0;
+		int max = 0;
+		IntervalLimit<T> maxLower = null;
+		IntervalLimit<T> maxUpper = null;
+		int u = 0;
+		for (IntervalLimit<T> lower : lowers) {
+			while (reaches(uppers.get(u), lower) == false) {
+				if (maxUpper == null && count == max) {
+					maxUpper = uppers.get(u);
+				}
+				count--;
+				u++;
+			}
+			count++;
+			if (count > max) {
+				max = count;
+				maxLower = lower;
+				maxUpper = null;
+			}
+		}
+		if (maxUpper == null) {
+			maxUpper = uppers.get(u);
+		}
+		Interval<T> interval = entries[0].interval.newOfSameType(maxLower.getValue(), maxLower.isClosed(),
+				maxUpper.getValue(), maxUpper.isClosed());
+		return new Concurrency<T>(max, interval);
+	}
+	
+	/**
+	 * 互いに重なる区間の組を全て返す。
+	 * 
+	 * <p>組は、後続の区間（{@link Overlap#getSecond()}）のソート順、先行する区間（{@link Overlap#getFirst()}）のソート順に並ぶ。</p>
+	 * 
+	 * @return 重なる区間の組のリスト
+	 * @since #version#
+	 */
+	public List<Overlap<T>> overlaps() {
+		List<Overlap<T>> result = new ArrayList<Overlap<T>>();
+		sweep(0, entries.length, new ArrayList<Entry<T>>(), result);
+		return result;
+	}
+	
+	/**
+	 * 互いに重なる区間の組を、指定した{@link ForkJoinPool}で並列に求めて返す。
+	 * 
+	 * <p>ソート済みの区間を連続した範囲に分割し、各範囲を後続の区間とする組をそれぞれのタスクで求める。
+	 * 各タスクは、範囲の開始時点でまだ終わっていない区間を求めるために先行する全ての区間を走査する。
+	 * 結果は{@link #overlaps()}と同じ順序で並ぶ。</p>
+	 * 
+	 * @param pool 処理を行う{@link ForkJoinPool}
+	 * @return 重なる区間の組のリスト
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public List<Overlap<T>> overlaps(ForkJoinPool pool) {
+		Preconditions.checkNotNull(pool);
+		int taskSize = Math.max(entries.length / (pool.getParallelism() * 4), MIN_TASK_SIZE);
+		return pool.invoke(new OverlapTask(0, entries.length, taskSize));
+	}
+	
+	/**
+	 * ソート済みの区間のうち{@code from}番目から{@code to}番目（を含まない）までを後続の区間とする組を求める。
+	 * 
+	 * @param from 開始位置
+	 * @param to 終了位置（この位置を含まない）
+	 * @param active {@code from}番目より前の区間のうち、まだ終わっていない可能性のある区間（ソート順）
+	 * @param result 組を追加するリスト
+	 */
+	private void sweep(int from, int to, List<Entry<T>> active, List<Overlap<T>> result) {
+		for (int i = from; i < to; i++) {
+			Entry<T> entry = entries[i];
+			IntervalLimit<T> lower = entry.interval.lowerLimitObject;
+			// 後続の区間の下側限界の値は単調増加するため、ここで値が届かない区間は以降も重ならない
+			int kept = 0;
+			for (Entry<T> candidate : active) {
+				IntervalLimit<T> upper = candidate.interval.upperLimitObject;
+				if (strictlyPrecedes(upper, lower) == false) {
+					active.set(kept++, candidate);
+					if (reaches(upper, lower)) {
+						result.add(new Overlap<T>(candidate, entry));
+					}
+				}
+			}
+			active.subList(kept, active.size()).clear();
+			active.add(entry);
+		}
+	}
+	
+	
+	/**
+	 * 同時に重なる区間の最大数と、その数の区間が重なっている区間。
+	 * 
+	 * @param <T> 区間要素の型
+	 * @since #version#
+	 */
+	public static final class Concurrency<T extends Comparable<T> & Serializable> {
+		
+		private final int count;
+		
+		private final Interval<T> interval;
+		
+		
+		Concurrency(int count, Interval<T> interval) {
+			this.count = count;
+			this.interval = interval;
+		}
+		
+		/**
+		 * 同時に重なる区間の最大数を返す。
+		 * 
+		 * @return 最大数。区間が1つもない場合は{@code 0}
+		 */
+		public int getCount() {
+			return count;
+		}
+		
+		/**
+		 * 最大数の区間が重なっている区間のうち、最初のものを返す。
+		 * 
+		 * @return 区間。区間が1つもない場合は{@code null}
+		 */
+		public Interval<T> getInterval() {
+			return interval;
+		}
+		
+		@Override
+		public String toString() {
+			return count + " at " + interval;
+		}
+	}
+	
+	/**
+	 * 互いに重なる区間の組。
+	 * 
+	 * @param <T> 区間要素の型
+	 * @since #version#
+	 */
+	public static final class Overlap<T extends Comparable<T> & Serializable> {
+		
+		private final Entry<T> first;
+		
+		private final Entry<T> second;
+		
+		
+		Overlap(Entry<T> first, Entry<T> second) {
+			this.first = first;
+			this.second = second;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof Overlap == false) {
+				return false;
+			}
+			Overlap<?> other = (Overlap<?>) obj;
+			return first.index == other.first.index && second.index == other.second.index
+					&& first.interval.equals(other.first.interval) && second.interval.equals(other.second.interval);
+		}
+		
+		/**
+		 * 先行する（ソート順が前の）区間を返す。
+		 * 
+		 * @return 区間
+		 */
+		public Interval<T> getFirst() {
+			return first.interval;
+		}
+		
+		/**
+		 * 先行する区間の、与えられたコレクションにおける位置を返す。
+		 * 
+		 * @return 位置
+		 */
+		public int getFirstIndex() {
+			return first.index;
+		}
+		
+		/**
+		 * 後続の（ソート順が後の）区間を返す。
+		 * 
+		 * @return 区間
+		 */
+		public Interval<T> getSecond() {
+			return second.interval;
+		}
+		
+		/**
+		 * 後続の区間の、与えられたコレクションにおける位置を返す。
+		 * 
+		 * @return 位置
+		 */
+		public int getSecondIndex() {
+			return second.index;
+		}
+		
+		@Override
+		public int hashCode() {
+			return first.index * 31 + second.index;
+		}
+		
+		@Override
+		public String toString() {
+			return first.interval + "#" + first.index + " & " + second.interval + "#" + second.index;
+		}
+	}
+	
+	private static final class Entry<T extends Comparable<T> & Serializable> {
+		
+		final Interval<T> interval;
+		
+		/** 与えられたコレクションにおける位置 */
+		final int index;
+		
+		
+		Entry(Interval<T> interval, int index) {
+			this.interval = interval;
+			this.index = index;
+		}
+	}
+	
+	@SuppressWarnings("serial")
+	private final class OverlapTask extends RecursiveTask<List<Overlap<T>>> {
+		
+		private final int from;
+		
+		private final int to;
+		
+		private final int taskSize;
+		
+		
+		OverlapTask(int from, int to, int taskSize) {
+			this.from = from;
+			this.to = to;
+			this.taskSize = taskSize;
+		}
+		
+		@Override
+		protected List<Overlap<T>> compute() {
+			if (to - from <= taskSize) {
+				List<Entry<T>> active = new ArrayList<Entry<T>>();
+				if (from < to) {
+					IntervalLimit<T> lower = entries[from].interval.lowerLimitObject;
+					for (int i = 0; i < from; i++) {
+						if (strictlyPrecedes(entries[i].interval.upperLimitObject, lower) == false) {
+							active.add(entries[i]);
+						}
+					}
+				}
+				List<Overlap<T>> result = new ArrayList<Overlap<T>>();
+				sweep(from, to, active, result);
+				return result;
+			}
+			int middle = (from + to) >>> 1;
+			OverlapTask right = new OverlapTask(middle, to, taskSize);
+			right.fork();
+			List<Overlap<T>> result = new OverlapTask(from, middle, taskSize).compute();
+			result.addAll(right.join());
+			return result;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.intervals;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * 下側限界をキーとする{@link TreeMap}による{@link IntervalMap}実装クラス。
+ * 
+ * <p>マップ内の区間は互いに共通部分を持たないため、下側限界の順序で一意に整列できる。
+ * これにより、{@link #get(Comparable)}等の参照、及び{@link #put(Interval, Object)}、{@link #remove(Interval)}は
+ * 区間数 n に対して O(log n)（共通部分を持つ区間の数 m に対して O(log n + m)）で動作する。
+ * 上書き・分割の振る舞いは{@link LinearIntervalMap}と同じである。</p>
+ * 
+ * <p>ただし、空区間に対するマッピングは保持しない。</p>
+ * 
+ * @param <K> キーとなる区間が表現する型
+ * @param <V> 値の型
+ * @since #version#
+ */
+@SuppressWarnings("serial")
+public class TreeIntervalMap<K extends Comparable<K> & Serializable, V> implements IntervalMap<K, V>, Serializable {
+	
+	final NavigableMap<Interval<K>, V> keyValues;
+	
+	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * @since #version#
+	 */
+	public TreeIntervalMap() {
+		keyValues = new TreeMap<Interval<K>, V>(new LowerLimitComparator<K>());
+	}
+	
+	@Override
+	public boolean containsIntersectingKey(Interval<K> otherInterval) {
+		Preconditions.checkNotNull(otherInterval);
+		return intersectingKeys(otherInterval).isEmpty() == false;
+	}
+	
+	@Override
+	public boolean containsKey(K key) {
+		return findEntryContaining(key) != null;
+	}
+	
+	@Override
+	public V get(K key) {
+		Map.Entry<Interval<K>, V> entry = findEntryContaining(key);
+		if (entry == null) {
+			return null;
+		}
+		return entry.getValue();
+	}
+	
+	@Override
+	public void put(Interval<K> keyInterval, V value) {
+		Preconditions.checkNotNull(keyInterval);
+		remove(keyInterval);
+		if (keyInterval.isEmpty() == false) {
+			keyValues.put(keyInterval, value);
+		}
+	}
+	
+	@Override
+	public void remove(Interval<K> keyInterval) {
+		Preconditions.checkNotNull(keyInterval);
+		List<Interval<K>> intervalSequence = intersectingKeys(keyInterval);
+		for (Interval<K> oldInterval : intervalSequence) {
+			V oldValue = keyValues.remove(oldInterval);
+			for (Interval<K> complement : keyInterval.complementRelativeTo(oldInterval)) {
+				if (complement.isEmpty() == false) {
+					keyValues.put(complement, oldValue);
+				}
+			}
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return keyValues.toString();
+	}
+	
+	private Map.Entry<Interval<K>, V> findEntryContaining(K key) {
+		if (key == null) {
+			return null;
+		}
+		// 下側限界が key 以下である区間のうち最大のもの以外は、key を含み得ない
+		Map.Entry<Interval<K>, V> entry = keyValues.floorEntry(Interval.singleElement(key));
+		if (entry == null || entry.getKey().includes(key) == false) {
+			return null;
+		}
+		return entry;
+	}
+	
+	private List<Interval<K>> intersectingKeys(Interval<K> otherInterval) {
+		Preconditions.checkNotNull(otherInterval);
+		List<Interval<K>> intervalSequence = new ArrayList<Interval<K>>();
+		Interval<K> fromKey = keyValues.floorKey(otherInterval);
+		Iterable<Interval<K>> candidates =
+				fromKey == null ? keyValues.keySet() : keyValues.tailMap(fromKey, true).keySet();
+		for (Interval<K> keyInterval : candidates) {
+			if (otherInterval.hasUpperLimit() && keyInterval.hasLowerLimit()
+					&& keyInterval.lowerLimit().compareTo(otherInterval.upperLimit()) > 0) {
+				break;
+			}
+			if (keyInterval.intersects(otherInterval)) {
+				intervalSequence.add(keyInterval);
+			}
+		}
+		return intervalSequence;
+	}
+	
+	
+	/**
+	 * 区間同士を下側限界のみで比較するコンパレータ。
+	 * 
+	 * <p>限界のない下側限界を最も小さいとし、限界値が同じ場合は閉じている方を小さいとする。</p>
+	 * 
+	 * @param <T> 区間要素の型
+	 */
+	private static class LowerLimitComparator<T extends Comparable<T> & Serializable>
+			implements Comparator<Interval<T>>, Serializable {
+		
+		@Override
+		public int compare(Interval<T> e1, Interval<T> e2) {
+			if (e1.hasLowerLimit() == false || e2.hasLowerLimit() == false) {
+				return Boolean.compare(e1.hasLowerLimit(), e2.hasLowerLimit());
+			}
+			int comparison = e1.lowerLimit().compareTo(e2.lowerLimit());
+			if (comparison != 0) {
+				return comparison;
+			}
+			return Boolean.compare(e2.includesLowerLimit(), e1.includesLowerLimit());
+		}
+	}
+}
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.text.ParseException;
 
 import jp.xet.baseunits.time.CalendarDate;
+import jp.xet.baseunits.util.TimeZones;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
@@ -32,7 +33,7 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
  */
 public class CalendarDateDeserializer extends JsonDeserializer<CalendarDate> {
 	
-	private final String format;
+	private final DateFormatCodec codec;
 	
 	
 	/**
@@ -48,13 +49,13 @@ public class CalendarDateDeserializer extends JsonDeserializer<CalendarDate> {
 	 * @param format 書式
 	 */
 	public CalendarDateDeserializer(String format) {
-		this.format = format;
+		codec = new DateFormatCodec(format, TimeZones.UNIVERSAL);
 	}
 	
 	@Override
 	public CalendarDate deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
 		try {
-			return CalendarDate.parse(jp.getText(), format);
+			return CalendarDate.from(codec.read(jp), TimeZones.UNIVERSAL);
 		} catch (ParseException e) {
 			return null;
 		}
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.text.ParseException;
 
 import jp.xet.baseunits.time.CalendarMonth;
+import jp.xet.baseunits.util.TimeZones;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
@@ -32,7 +33,7 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
  */
 public class CalendarMonthDeserializer extends JsonDeserializer<CalendarMonth> {
 	
-	private final String format;
+	private final DateFormatCodec codec;
 	
 	
 	/**
@@ -48,13 +49,13 @@ public class CalendarMonthDeserializer extends JsonDeserializer<CalendarMonth> {
 	 * @param format 書式
 	 */
 	public CalendarMonthDeserializer(String format) {
-		this.format = format;
+		codec = new DateFormatCodec(format, TimeZones.UNIVERSAL);
 	}
 	
 	@Override
 	public CalendarMonth deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
 		try {
-			return CalendarMonth.parse(jp.getText(), format);
+			return CalendarMonth.from(codec.read(jp), TimeZones.UNIVERSAL);
 		} catch (ParseException e) {
 			return null;
 		}
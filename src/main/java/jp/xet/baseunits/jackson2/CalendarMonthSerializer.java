@@ -18,6 +18,7 @@ package jp.xet.baseunits.jackson2;
 import java.io.IOException;
 
 import jp.xet.baseunits.time.CalendarMonth;
+import jp.xet.baseunits.util.TimeZones;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -33,6 +34,8 @@ public class CalendarMonthSerializer extends JsonSerializer<CalendarMonth> {
 	
 	private final String format;
 	
+	private final DateFormatCodec codec;
+	
 	
 	/**
 	 * インスタンスを生成する。
@@ -48,6 +51,7 @@ public class CalendarMonthSerializer extends JsonSerializer<CalendarMonth> {
 	 */
 	public CalendarMonthSerializer(String format) {
 		this.format = format;
+		codec = new DateFormatCodec(format, TimeZones.UNIVERSAL);
 	}
 	
 	@Override
@@ -57,7 +61,10 @@ public class CalendarMonthSerializer extends JsonSerializer<CalendarMonth> {
 	
 	@Override
 	public void serialize(CalendarMonth value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
-		String string = (value == null) ? "" : value.toString(format);
-		jgen.writeString(string);
+		if (value == null) {
+			jgen.writeString("");
+		} else if (codec.write(value.asTimePoint(TimeZones.UNIVERSAL), jgen) == false) {
+			jgen.writeString(value.toString(format));
+		}
 	}
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.jackson2;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import jp.xet.baseunits.time.CompiledDateFormat;
+import jp.xet.baseunits.time.TimePoint;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * {@link CompiledDateFormat}を用いて、{@link JsonGenerator}及び{@link JsonParser}の文字配列を直接読み書きする。
+ * 
+ * <p>書式はデフォルトロケールに対して構築し、デフォルトロケールが変更された場合は再構築する。</p>
+ */
+final class DateFormatCodec {
+	
+	/** 書き込み用配列の長さ */
+	private static final int BUFFER_SIZE = 32;
+	
+	/** スレッド毎の書き込み用配列 */
+	private static final ThreadLocal<char[]> BUFFERS = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
+	
+	
+	private final String pattern;
+	
+	private final TimeZone zone;
+	
+	private volatile CompiledDateFormat format;
+	
+	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * @param pattern {@link java.text.SimpleDateFormat}に基づくパターン
+	 * @param zone タイムゾーン
+	 */
+	DateFormatCodec(String pattern, TimeZone zone) {
+		this.pattern = pattern;
+		this.zone = zone;
+	}
+	
+	/**
+	 * 現在のトークンの文字配列を解析し、瞬間を返す。
+	 * 
+	 * @param jp パーサ
+	 * @return {@link TimePoint}
+	 * @throws IOException トークンの読み出しに失敗した場合
+	 * @throws ParseException 文字列の解析に失敗した場合
+	 */
+	TimePoint read(JsonParser jp) throws IOException, ParseException {
+		return format().parse(jp.getTextCharacters(), jp.getTextOffset(), jp.getTextLength());
+	}
+	
+	/**
+	 * 瞬間を整形し、文字列値として書き出す。
+	 * 
+	 * @param timePoint 瞬間
+	 * @param jgen ジェネレータ
+	 * @return 文字列を生成せずに書き出した場合は{@code true}、書き出さなかった場合は{@code false}
+	 * @throws IOException 書き出しに失敗した場合
+	 */
+	boolean write(TimePoint timePoint, JsonGenerator jgen) throws IOException {
+		char[] buffer = BUFFERS.get();
+		int length = format().format(timePoint, buffer, 0);
+		if (length < 0) {
+			return false;
+		}
+		// JsonGeneratorは呼び出し中に内容を複写するため、配列は再利用できる
+		jgen.writeString(buffer, 0, length);
+		return true;
+	}
+	
+	private CompiledDateFormat format() {
+		CompiledDateFormat result = format;
+		Locale locale = Locale.getDefault();
+		if (result == null || result.getLocale().equals(locale) == false) {
+			result = CompiledDateFormat.of(pattern, locale, zone);
+			format = result;
+		}
+		return result;
+	}
+}
@@ -33,10 +33,13 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
  */
 public class TimePointDeserializer extends JsonDeserializer<TimePoint> {
 	
+	private final DateFormatCodec codec = new DateFormatCodec(TimePoint.ISO8601_FORMAT_UNIVERSAL, TimeZones.UNIVERSAL);
+	
+	
 	@Override
 	public TimePoint deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
 		try {
-			return TimePoint.parse(jp.getText(), TimePoint.ISO8601_FORMAT_UNIVERSAL, TimeZones.UNIVERSAL);
+			return codec.read(jp);
 		} catch (ParseException e) {
 			return null;
 		}
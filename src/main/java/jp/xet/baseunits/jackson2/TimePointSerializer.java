@@ -32,6 +32,9 @@ import com.fasterxml.jackson.databind.SerializerProvider;
  */
 public class TimePointSerializer extends JsonSerializer<TimePoint> {
 	
+	private final DateFormatCodec codec = new DateFormatCodec(TimePoint.ISO8601_FORMAT_UNIVERSAL, TimeZones.UNIVERSAL);
+	
+	
 	@Override
 	public Class<TimePoint> handledType() {
 		return TimePoint.class;
@@ -39,7 +42,10 @@ public class TimePointSerializer extends JsonSerializer<TimePoint> {
 	
 	@Override
 	public void serialize(TimePoint value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
-		String string = (value == null) ? "" : value.toString(TimeZones.UNIVERSAL);
-		jgen.writeString(string);
+		if (value == null) {
+			jgen.writeString("");
+		} else if (codec.write(value, jgen) == false) {
+			jgen.writeString(value.toString(TimeZones.UNIVERSAL));
+		}
 	}
 }
@@ -15,12 +15,13 @@
  */
 package jp.xet.baseunits.money;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Collection;
 import java.util.Currency;
-import java.util.Iterator;
 import java.util.Locale;
 
 import jp.xet.baseunits.time.Duration;
@@ -33,10 +34,14 @@ import com.google.common.base.Preconditions;
  * 
  * <p>ある一定の「量」と「通貨単位」から成るクラスである。</p>
  * 
+ * <p>量が通貨単位の最小単位（例えば日本円は1円、US$は1セント）の数として{@code long}に収まる場合は、
+ * その数を保持し、加減算等は{@link BigDecimal}を用いずに行う。結果が{@code long}に収まらない場合や
+ * 整数とならない場合に限り{@link BigDecimal}による表現に切り替える。いずれの表現であっても
+ * {@link #equals(Object)}, {@link #hashCode()}及び{@link #compareTo(Money)}の結果は変わらない。</p>
+ * 
  * @author daisuke
  * @since 1.0
  */
-@SuppressWarnings("serial")
 public class Money implements Comparable<Money>, Serializable {
 	
 	private static final Currency USD = Currency.getInstance("USD");
@@ -117,16 +122,11 @@ public class Money implements Comparable<Money>, Serializable {
 	 */
 	public static Money sum(Collection<Money> monies) {
 		Preconditions.checkNotNull(monies);
-		if (monies.isEmpty()) {
-			return Money.zero(Currency.getInstance(Locale.getDefault()));
-		}
-		Iterator<Money> iterator = monies.iterator();
-		Money sum = iterator.next();
-		while (iterator.hasNext()) {
-			Money each = iterator.next();
-			sum = sum.plus(each);
+		MoneyAccumulator accumulator = new MoneyAccumulator();
+		for (Money each : monies) {
+			accumulator.add(each);
 		}
-		return sum;
+		return accumulator.total();
 	}
 	
 	/**
@@ -196,6 +196,28 @@ public class Money implements Comparable<Money>, Serializable {
 		return Money.valueOf(rawAmount, currency, roundingMode);
 	}
 	
+	/**
+	 * 通貨単位の最小単位の数で表した金額を返す。
+	 * 
+	 * <p>例えば{@code valueOfMinorUnits(1234, USD)}は{@code 12.34 USD}を表す。</p>
+	 * 
+	 * @param minorUnits 最小単位の数
+	 * @param currency 通貨単位
+	 * @return 金額
+	 * @throws IllegalArgumentException 通貨単位が小数点以下の桁数を定義しない場合
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public static Money valueOfMinorUnits(long minorUnits, Currency currency) {
+		Preconditions.checkNotNull(currency);
+		Preconditions.checkArgument(currency.getDefaultFractionDigits() >= 0,
+				"Currency has no default fraction digits: %s", currency);
+		if (minorUnits == Long.MIN_VALUE) {
+			return new Money(BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits()), currency);
+		}
+		return new Money(minorUnits, currency);
+	}
+	
 	/**
 	 * This creation method is safe to use. It will adjust scale, but will not
 	 * round off the amount.
@@ -232,16 +254,31 @@ public class Money implements Comparable<Money>, Serializable {
 	 */
 	public static Money zero(Currency currency) {
 		Preconditions.checkNotNull(currency);
+		if (currency.getDefaultFractionDigits() >= 0) {
+			return new Money(0L, currency);
+		}
 		return Money.valueOf(0.0, currency);
 	}
 	
 	
-	/** 量 */
-	final BigDecimal amount;
+	private static final long serialVersionUID = 4546520645695052224L;
+	
+	/** {@link BigDecimal}の量を最小単位の数で表現する精度の上限（{@code long}に必ず収まる桁数） */
+	private static final int MAX_COMPACT_PRECISION = 18;
+	
+	
+	/** 量。{@link #compact}な場合は、必要になるまで{@code null} */
+	private BigDecimal amount;
 	
 	/** 通貨単位 */
 	final Currency currency;
 	
+	/** 最小単位の数で表した量。{@link #compact}な場合のみ有効であり、符号反転できない{@link Long#MIN_VALUE}はとらない */
+	final transient long units;
+	
+	/** 量を{@link #units}で表現している場合は{@code true} */
+	final transient boolean compact;
+	
 	
 	/**
 	 * The constructor does not complex computations and requires simple, inputs
@@ -262,6 +299,22 @@ public class Money implements Comparable<Money>, Serializable {
 		}
 		this.currency = currency;
 		this.amount = amount;
+		compact = amount.scale() >= 0 && amount.precision() <= MAX_COMPACT_PRECISION;
+		units = compact ? amount.unscaledValue().longValue() : 0;
+	}
+	
+	/**
+	 * 最小単位の数で表した金額を生成する。
+	 * 
+	 * @param units 最小単位の数。{@link Long#MIN_VALUE}以外
+	 * @param currency 小数点以下の桁数を定義する通貨単位
+	 */
+	private Money(long units, Currency currency) {
+		assert units != Long.MIN_VALUE;
+		assert currency.getDefaultFractionDigits() >= 0;
+		this.currency = currency;
+		this.units = units;
+		compact = true;
 	}
 	
 	/**
@@ -271,6 +324,9 @@ public class Money implements Comparable<Money>, Serializable {
 	 * @since 1.0
 	 */
 	public Money abs() {
+		if (compact) {
+			return units >= 0 ? this : new Money(-units, currency);
+		}
 		return Money.valueOf(amount.abs(), currency);
 	}
 	
@@ -287,7 +343,7 @@ public class Money implements Comparable<Money>, Serializable {
 	public Money applying(Ratio ratio, int scale, RoundingMode roundingMode) {
 		Preconditions.checkNotNull(ratio);
 		Preconditions.checkNotNull(roundingMode);
-		BigDecimal newAmount = ratio.times(amount).decimalValue(scale, roundingMode);
+		BigDecimal newAmount = ratio.times(amount(), scale, roundingMode);
 		return Money.valueOf(newAmount, currency);
 	}
 	
@@ -322,7 +378,7 @@ public class Money implements Comparable<Money>, Serializable {
 	 * @since 1.0
 	 */
 	public BigDecimal breachEncapsulationOfAmount() {
-		return amount;
+		return amount();
 	}
 	
 	/**
@@ -360,7 +416,10 @@ public class Money implements Comparable<Money>, Serializable {
 		if (hasSameCurrencyAs(other) == false) {
 			throw new ClassCastException("Compare is not defined between different currencies");
 		}
-		return amount.compareTo(other.amount);
+		if (compact && other.compact && hasSameScaleAs(other)) {
+			return Long.compare(units, other.units);
+		}
+		return amount().compareTo(other.amount());
 	}
 	
 	/**
@@ -375,7 +434,7 @@ public class Money implements Comparable<Money>, Serializable {
 	public Money dividedBy(BigDecimal divisor, RoundingMode roundingMode) {
 		Preconditions.checkNotNull(divisor);
 		Preconditions.checkNotNull(roundingMode);
-		BigDecimal newAmount = amount.divide(divisor, roundingMode);
+		BigDecimal newAmount = amount().divide(divisor, roundingMode);
 		return Money.valueOf(newAmount, currency);
 	}
 	
@@ -419,7 +478,7 @@ public class Money implements Comparable<Money>, Serializable {
 	public Ratio dividedBy(Money divisor) {
 		Preconditions.checkNotNull(divisor);
 		checkHasSameCurrencyAs(divisor);
-		return Ratio.of(amount, divisor.amount);
+		return Ratio.of(amount(), divisor.amount());
 	}
 	
 	@Override
@@ -434,7 +493,12 @@ public class Money implements Comparable<Money>, Serializable {
 			return false;
 		}
 		Money other = (Money) obj;
-		if (amount.equals(other.amount) == false) {
+		if (compact && other.compact) {
+			// BigDecimal#equals(Object)と同様に、スケールの異なる量は等価としない
+			if (units != other.units || hasSameScaleAs(other) == false) {
+				return false;
+			}
+		} else if (amount().equals(other.amount()) == false) {
 			return false;
 		}
 		if (hasSameCurrencyAs(other) == false) {
@@ -445,11 +509,10 @@ public class Money implements Comparable<Money>, Serializable {
 	
 	@Override
 	public int hashCode() {
-		assert amount != null;
 		assert currency != null;
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + amount.hashCode();
+		result = prime * result + amount().hashCode();
 		result = prime * result + currency.hashCode();
 		return result;
 	}
@@ -493,6 +556,9 @@ public class Money implements Comparable<Money>, Serializable {
 	 * @since 1.0
 	 */
 	public boolean isNegative() {
+		if (compact) {
+			return units < 0;
+		}
 		return amount.compareTo(BigDecimal.ZERO) < 0;
 	}
 	
@@ -505,6 +571,9 @@ public class Money implements Comparable<Money>, Serializable {
 	 * @since 1.0
 	 */
 	public boolean isPositive() {
+		if (compact) {
+			return units > 0;
+		}
 		return amount.compareTo(BigDecimal.ZERO) > 0;
 	}
 	
@@ -515,6 +584,9 @@ public class Money implements Comparable<Money>, Serializable {
 	 * @since 1.0
 	 */
 	public boolean isZero() {
+		if (compact) {
+			return units == 0;
+		}
 		return equals(Money.valueOf(0.0, currency));
 	}
 	
@@ -529,6 +601,13 @@ public class Money implements Comparable<Money>, Serializable {
 	 */
 	public Money minus(Money other) {
 		Preconditions.checkNotNull(other);
+		if (compact && other.compact && currency.equals(other.currency)) {
+			try {
+				return valueOfUnits(Math.subtractExact(units, other.units));
+			} catch (ArithmeticException e) {
+				// オーバーフローした場合はBigDecimalで計算する
+			}
+		}
 		return plus(other.negated());
 	}
 	
@@ -539,6 +618,9 @@ public class Money implements Comparable<Money>, Serializable {
 	 * @since 1.0
 	 */
 	public Money negated() {
+		if (compact) {
+			return new Money(-units, currency);
+		}
 		return Money.valueOf(amount.negate(), currency);
 	}
 	
@@ -566,8 +648,15 @@ public class Money implements Comparable<Money>, Serializable {
 	 */
 	public Money plus(Money other) {
 		Preconditions.checkNotNull(other);
+		if (compact && other.compact && currency.equals(other.currency)) {
+			try {
+				return valueOfUnits(Math.addExact(units, other.units));
+			} catch (ArithmeticException e) {
+				// オーバーフローした場合はBigDecimalで計算する
+			}
+		}
 		checkHasSameCurrencyAs(other);
-		return Money.valueOf(amount.add(other.amount), currency);
+		return Money.valueOf(amount().add(other.amount()), currency);
 	}
 	
 	/**
@@ -605,7 +694,7 @@ public class Money implements Comparable<Money>, Serializable {
 	public Money times(BigDecimal factor, RoundingMode roundingMode) {
 		Preconditions.checkNotNull(factor);
 		Preconditions.checkNotNull(roundingMode);
-		return Money.valueOf(amount.multiply(factor), currency, roundingMode);
+		return Money.valueOf(amount().multiply(factor), currency, roundingMode);
 	}
 	
 	/**
@@ -645,12 +734,19 @@ public class Money implements Comparable<Money>, Serializable {
 	 * @since 1.0
 	 */
 	public Money times(int amount) {
+		if (compact) {
+			try {
+				return valueOfUnits(Math.multiplyExact(units, amount));
+			} catch (ArithmeticException e) {
+				// オーバーフローした場合はBigDecimalで計算する
+			}
+		}
 		return times(new BigDecimal(amount));
 	}
 	
 	@Override
 	public String toString() {
-		return currency.getSymbol() + " " + amount;
+		return currency.getSymbol() + " " + amount();
 	}
 	
 	/**
@@ -665,7 +761,7 @@ public class Money implements Comparable<Money>, Serializable {
 			locale = Locale.getDefault();
 		}
 		Preconditions.checkNotNull(locale);
-		return currency.getSymbol(locale) + " " + amount;
+		return currency.getSymbol(locale) + " " + amount();
 	}
 	
 //	BigDecimal getAmount() {
@@ -676,8 +772,25 @@ public class Money implements Comparable<Money>, Serializable {
 //		return currency;
 //	}
 	
+	/**
+	 * 量を返す。
+	 * 
+	 * <p>{@link #compact}な場合は、初回の呼び出し時に{@link BigDecimal}を生成する。
+	 * {@link BigDecimal}は不変であるため、複数のスレッドで生成が競合しても問題はない。</p>
+	 * 
+	 * @return 量
+	 */
+	BigDecimal amount() {
+		BigDecimal result = amount;
+		if (result == null) {
+			result = BigDecimal.valueOf(units, currency.getDefaultFractionDigits());
+			amount = result;
+		}
+		return result;
+	}
+	
 	boolean hasSameCurrencyAs(Money arg) {
-		return currency.equals(arg.currency) || arg.amount.equals(BigDecimal.ZERO) || amount.equals(BigDecimal.ZERO);
+		return currency.equals(arg.currency) || arg.isScalelessZero() || isScalelessZero();
 	}
 	
 	/**
@@ -689,6 +802,18 @@ public class Money implements Comparable<Money>, Serializable {
 		return plus(minimumIncrement());
 	}
 	
+	/**
+	 * 量が{@link BigDecimal#ZERO}と等価（スケールも0）であるかどうか調べる。
+	 * 
+	 * @return 等価である場合は{@code true}、そうでない場合は{@code false}
+	 */
+	boolean isScalelessZero() {
+		if (compact) {
+			return units == 0 && currency.getDefaultFractionDigits() == 0;
+		}
+		return amount.equals(BigDecimal.ZERO);
+	}
+	
 	/**
 	 * 最小の単位金額を返す。
 	 * 
@@ -705,12 +830,36 @@ public class Money implements Comparable<Money>, Serializable {
 		return Money.valueOf(increment, currency);
 	}
 	
+	private boolean hasSameScaleAs(Money other) {
+		return currency.getDefaultFractionDigits() == other.currency.getDefaultFractionDigits();
+	}
+	
+	/**
+	 * この金額と同じ通貨単位で、最小単位の数で表した金額を返す。
+	 * 
+	 * @param newUnits 最小単位の数
+	 * @return 金額
+	 * @throws ArithmeticException 引数に{@link Long#MIN_VALUE}を与えた場合
+	 */
+	private Money valueOfUnits(long newUnits) {
+		if (newUnits == Long.MIN_VALUE) {
+			throw new ArithmeticException("long overflow");
+		}
+		return new Money(newUnits, currency);
+	}
+	
 	private void checkHasSameCurrencyAs(Money aMoney) {
 		if (hasSameCurrencyAs(aMoney) == false) {
 			throw new ClassCastException(aMoney.toString() + " is not same currency as " + this.toString());
 		}
 	}
 	
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		// 旧バージョンとの互換性のため、量は常にBigDecimalとして書き出す
+		amount();
+		stream.defaultWriteObject();
+	}
+	
 //  TODO: Provide some currency-dependent formatting. Java 1.4 Currency doesn't do it.
 //  public String formatString() {
 //      return currency.formatString(amount());
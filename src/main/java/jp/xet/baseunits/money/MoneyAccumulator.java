@@ -0,0 +1,176 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.stream.Collector;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * 金額を逐次足し込み、最後に1つの合計金額を生成する可変の集計器。
+ * 
+ * <p>足し込む度に{@link Money}や{@link BigDecimal}を生成せず、合計を最小単位の数として{@code long}に保持し、
+ * {@code long}の範囲を超えた分のみ{@link BigInteger}に繰り上げる。</p>
+ * 
+ * <p>合計金額の通貨単位は、最初に足し込んだ金額の通貨単位とする。通貨単位の異なる金額の扱いは
+ * {@link Money#plus(Money)}と同じであり、どちらか片方の量が（スケールも含めて）0の場合に限り足し込むことができる。</p>
+ * 
+ * <p>このクラスはスレッドセーフではない。複数のスレッドで集計する場合は、スレッド毎のインスタンスを
+ * {@link #combine(MoneyAccumulator)}で結合すること。{@link #summing()}はこれを行う{@link Collector}を返す。</p>
+ * 
+ * @since #version#
+ */
+public final class MoneyAccumulator {
+	
+	/**
+	 * 金額の合計を求める{@link Collector}を返す。
+	 * 
+	 * <p>要素が無い場合は、{@link Money#sum(java.util.Collection)}と同様に、
+	 * 現在のデフォルトロケールにおける通貨単位で、量が0の金額を返す。</p>
+	 * 
+	 * @return {@link Collector}
+	 * @since #version#
+	 */
+	public static Collector<Money, MoneyAccumulator, Money> summing() {
+		return Collector.of(MoneyAccumulator::new, MoneyAccumulator::add, MoneyAccumulator::combine,
+				MoneyAccumulator::total);
+	}
+	
+	
+	/** 通貨単位。まだ何も足し込んでいない場合は{@code null} */
+	private Currency currency;
+	
+	/** 合計のうち、{@code long}で保持する最小単位の数 */
+	private long units;
+	
+	/** 合計のうち、{@link #units}から繰り上げた最小単位の数。繰り上げていない場合は{@code null} */
+	private BigInteger carried;
+	
+	
+	/**
+	 * 金額を足し込む。
+	 * 
+	 * @param money 金額
+	 * @return このインスタンス
+	 * @throws ClassCastException 引数の通貨単位がこの集計器の通貨単位と異なる場合。
+	 * 				ただし、どちらか片方の量が0の場合は例外は発生しない。
+	 * @throws ArithmeticException 0である合計に、小数点以下の桁数が多い他の通貨単位の金額を足し込み、
+	 * 				合計の通貨単位で表現できない場合
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public MoneyAccumulator add(Money money) {
+		Preconditions.checkNotNull(money);
+		if (currency == null) {
+			currency = money.currency;
+		}
+		if (money.currency.equals(currency) == false) {
+			if (isScalelessZero()) {
+				BigDecimal amount = money.amount().setScale(currency.getDefaultFractionDigits(), RoundingMode.UNNECESSARY);
+				addUnscaled(amount.unscaledValue());
+			} else if (money.isScalelessZero() == false) {
+				throw new ClassCastException(money.toString() + " is not same currency as " + currency);
+			}
+		} else if (money.compact) {
+			addUnits(money.units);
+		} else {
+			addUnscaled(money.amount().unscaledValue());
+		}
+		return this;
+	}
+	
+	/**
+	 * 他の集計器の合計を足し込む。
+	 * 
+	 * @param other 集計器
+	 * @return このインスタンス
+	 * @throws ClassCastException 引数の通貨単位がこの集計器の通貨単位と異なる場合。
+	 * 				ただし、どちらか片方の合計が0の場合は例外は発生しない。
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public MoneyAccumulator combine(MoneyAccumulator other) {
+		Preconditions.checkNotNull(other);
+		if (other.currency == null) {
+			return this;
+		}
+		if (currency == null || currency.equals(other.currency) == false) {
+			return add(other.total());
+		}
+		addUnits(other.units);
+		if (other.carried != null) {
+			addUnscaled(other.carried);
+		}
+		return this;
+	}
+	
+	/**
+	 * 合計金額を返す。
+	 * 
+	 * <p>何も足し込んでいない場合は、現在のデフォルトロケールにおける通貨単位で、量が0の金額を返す。</p>
+	 * 
+	 * @return 合計金額
+	 * @since #version#
+	 */
+	public Money total() {
+		if (currency == null) {
+			return Money.zero(Currency.getInstance(Locale.getDefault()));
+		}
+		int scale = currency.getDefaultFractionDigits();
+		if (carried == null && scale >= 0) {
+			return Money.valueOfMinorUnits(units, currency);
+		}
+		return new Money(new BigDecimal(unscaledTotal(), scale), currency);
+	}
+	
+	@Override
+	public String toString() {
+		return currency == null ? "(empty)" : total().toString();
+	}
+	
+	private void addUnits(long value) {
+		long sum = units + value;
+		// 符号の等しい値の和で、結果の符号が異なる場合はオーバーフローしている
+		if (((units ^ sum) & (value ^ sum)) < 0) {
+			addUnscaled(BigInteger.valueOf(value));
+		} else {
+			units = sum;
+		}
+	}
+	
+	private void addUnscaled(BigInteger value) {
+		carried = carried == null ? value : carried.add(value);
+	}
+	
+	/**
+	 * 合計が{@link BigDecimal#ZERO}と等価（スケールも0）であるかどうか調べる。
+	 * 
+	 * @return 等価である場合は{@code true}、そうでない場合は{@code false}
+	 */
+	private boolean isScalelessZero() {
+		return currency.getDefaultFractionDigits() == 0 && unscaledTotal().signum() == 0;
+	}
+	
+	private BigInteger unscaledTotal() {
+		BigInteger total = BigInteger.valueOf(units);
+		return carried == null ? total : carried.add(total);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.money;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * 通貨単位毎の合計金額の、不変な集合。
+ * 
+ * <p>{@link Tally}とは異なり、通貨単位が異なる金額を含むことができる。1つの通貨単位につき1つの合計金額を保持し、
+ * 通貨単位コードの順に列挙する。</p>
+ * 
+ * @author daisuke
+ * @since #version#
+ * @see MoneyCollectors#summingByCurrency()
+ */
+public final class MoneyBag implements Iterable<Money> {
+	
+	/** 空の集合 */
+	static final MoneyBag EMPTY = new MoneyBag(Collections.emptyMap());
+	
+	
+	/**
+	 * 通貨単位毎の合計金額から、インスタンスを生成する。
+	 * 
+	 * @param totals 通貨単位毎の集計器
+	 * @return {@link MoneyBag}
+	 */
+	static MoneyBag of(Map<Currency, MoneyAccumulator> totals) {
+		if (totals.isEmpty()) {
+			return EMPTY;
+		}
+		Map<Currency, Money> sorted = new LinkedHashMap<Currency, Money>();
+		totals.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey(Comparator.comparing(Currency::getCurrencyCode)))
+			.forEachOrdered(e -> sorted.put(e.getKey(), e.getValue().total()));
+		return new MoneyBag(Collections.unmodifiableMap(sorted));
+	}
+	
+	
+	private final Map<Currency, Money> totals;
+	
+	
+	private MoneyBag(Map<Currency, Money> totals) {
+		this.totals = totals;
+	}
+	
+	/**
+	 * 通貨単位毎の合計金額を、変更できない{@link Map}として返す。
+	 * 
+	 * @return 通貨単位毎の合計金額
+	 * @since #version#
+	 */
+	public Map<Currency, Money> asMap() {
+		return totals;
+	}
+	
+	/**
+	 * 含まれる通貨単位を返す。
+	 * 
+	 * @return 通貨単位の集合
+	 * @since #version#
+	 */
+	public Set<Currency> currencies() {
+		return totals.keySet();
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof MoneyBag == false) {
+			return false;
+		}
+		return totals.equals(((MoneyBag) obj).totals);
+	}
+	
+	/**
+	 * 指定した通貨単位の合計金額を返す。
+	 * 
+	 * @param currency 通貨単位
+	 * @return 合計金額。その通貨単位の金額を含まない場合は、量が0の金額
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public Money get(Currency currency) {
+		Preconditions.checkNotNull(currency);
+		Money total = totals.get(currency);
+		return total != null ? total : Money.zero(currency);
+	}
+	
+	@Override
+	public int hashCode() {
+		return totals.hashCode();
+	}
+	
+	/**
+	 * 金額を1つも含まないかどうか調べる。
+	 * 
+	 * @return 含まない場合は{@code true}、そうでない場合は{@code false}
+	 * @since #version#
+	 */
+	public boolean isEmpty() {
+		return totals.isEmpty();
+	}
+	
+	@Override
+	public Iterator<Money> iterator() {
+		return totals.values().iterator();
+	}
+	
+	@Override
+	public String toString() {
+		return totals.values().toString();
+	}
+}
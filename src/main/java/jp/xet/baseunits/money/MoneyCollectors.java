@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.money;
+
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * 金額を集計する{@link Collector}のファクトリ。
+ * 
+ * <p>いずれの{@link Collector}も、並列ストリームではスレッド毎の{@link MoneyAccumulator}に足し込み、
+ * 最後に結合する。通貨単位毎に集計するため、通貨単位の異なる金額が混在していても例外は発生しない。</p>
+ * 
+ * @author daisuke
+ * @since #version#
+ */
+public final class MoneyCollectors {
+	
+	/**
+	 * 要素を任意のキーで分類し、分類毎に通貨単位毎の合計金額を求める{@link Collector}を返す。
+	 * 
+	 * <p>例えば、仕訳を勘定科目や計上日で分類して集計できる。</p>
+	 * 
+	 * @param <T> 要素の型
+	 * @param <K> キーの型
+	 * @param classifier 要素をキーに対応付ける関数
+	 * @param mapper 要素を金額に対応付ける関数
+	 * @return キー毎の{@link MoneyBag}を、変更できない{@link Map}として返す{@link Collector}
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public static <T, K>Collector<T, ?, Map<K, MoneyBag>> groupingBy(Function<? super T, ? extends K> classifier,
+			Function<? super T, Money> mapper) {
+		Preconditions.checkNotNull(classifier);
+		Preconditions.checkNotNull(mapper);
+		return Collectors.collectingAndThen(
+				Collectors.groupingBy(classifier, Collectors.mapping(mapper, summingByCurrency())),
+				Collections::unmodifiableMap);
+	}
+	
+	/**
+	 * 通貨単位毎の合計金額を求める{@link Collector}を返す。
+	 * 
+	 * @return {@link Collector}
+	 * @since #version#
+	 */
+	public static Collector<Money, ?, MoneyBag> summingByCurrency() {
+		return Collector.of(HashMap<Currency, MoneyAccumulator>::new, MoneyCollectors::add,
+				MoneyCollectors::combine, MoneyBag::of, Collector.Characteristics.UNORDERED);
+	}
+	
+	private static void add(Map<Currency, MoneyAccumulator> totals, Money money) {
+		Preconditions.checkNotNull(money);
+		totals.computeIfAbsent(money.currency, currency -> new MoneyAccumulator()).add(money);
+	}
+	
+	private static Map<Currency, MoneyAccumulator> combine(Map<Currency, MoneyAccumulator> left,
+			Map<Currency, MoneyAccumulator> right) {
+		right.forEach((currency, total) -> left.merge(currency, total, MoneyAccumulator::combine));
+		return left;
+	}
+	
+	private MoneyCollectors() {
+	}
+}
@@ -18,9 +18,11 @@ package jp.xet.baseunits.money;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Preconditions;
@@ -34,7 +36,30 @@ import com.google.common.base.Preconditions;
  */
 public class MoneyFan<T> implements Iterable<Allotment<T>> {
 	
-	private Set<Allotment<T>> allotments;
+	/**
+	 * 割り当ての集合を生成するビルダーを返す。
+	 * 
+	 * @param <T> 割り当て対象
+	 * @return ビルダー
+	 * @since #version#
+	 */
+	public static <T>Builder<T> builder() {
+		return new Builder<T>();
+	}
+	
+	private static <T>Map<T, Allotment<T>> index(Set<Allotment<T>> allotments) {
+		Map<T, Allotment<T>> index = new HashMap<T, Allotment<T>>(allotments.size() * 4 / 3 + 1);
+		for (Allotment<T> allotment : allotments) {
+			index.putIfAbsent(allotment.entity, allotment);
+		}
+		return index;
+	}
+	
+	
+	private final Set<Allotment<T>> allotments;
+	
+	/** 割り当て対象から、{@link #allotment(Object)}が返す割り当てへの索引 */
+	private final Map<T, Allotment<T>> index;
 	
 	
 	/**
@@ -42,9 +67,9 @@ public class MoneyFan<T> implements Iterable<Allotment<T>> {
 	 * 
 	 * @since 1.0
 	 */
-	@SuppressWarnings("unchecked")
 	public MoneyFan() {
-		this.allotments = Collections.EMPTY_SET;
+		this.allotments = Collections.emptySet();
+		this.index = Collections.emptyMap();
 	}
 	
 	/**
@@ -56,8 +81,8 @@ public class MoneyFan<T> implements Iterable<Allotment<T>> {
 	 */
 	public MoneyFan(Allotment<T> allotment) {
 		Preconditions.checkNotNull(allotment);
-		this.allotments = new HashSet<Allotment<T>>();
-		this.allotments.add(allotment);
+		this.allotments = Collections.singleton(allotment);
+		this.index = Collections.singletonMap(allotment.entity, allotment);
 	}
 	
 	/**
@@ -77,6 +102,18 @@ public class MoneyFan<T> implements Iterable<Allotment<T>> {
 			setOfAllotments.add(allotment);
 		}
 		this.allotments = setOfAllotments;
+		this.index = index(setOfAllotments);
+	}
+	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * @param allotments 割り当ての集合（複製せずに保持する）
+	 * @param index 割り当て対象から割り当てへの索引
+	 */
+	private MoneyFan(Set<Allotment<T>> allotments, Map<T, Allotment<T>> index) {
+		this.allotments = allotments;
+		this.index = index;
 	}
 	
 	/**
@@ -87,12 +124,7 @@ public class MoneyFan<T> implements Iterable<Allotment<T>> {
 	 * @since 1.0
 	 */
 	public Allotment<T> allotment(T anEntity) {
-		for (Allotment<T> allotment : allotments) {
-			if (allotment.entity.equals(anEntity)) {
-				return allotment;
-			}
-		}
-		return null;
+		return index.get(anEntity);
 	}
 	
 	@Override
@@ -118,9 +150,16 @@ public class MoneyFan<T> implements Iterable<Allotment<T>> {
 		return allotments.hashCode();
 	}
 	
+	/**
+	 * 割り当てを列挙する{@link Iterator}を返す。
+	 * 
+	 * <p>{@link MoneyFan}は不変であるため、返す{@link Iterator}は{@link Iterator#remove()}をサポートしない。</p>
+	 * 
+	 * @return {@link Iterator}
+	 */
 	@Override
 	public Iterator<Allotment<T>> iterator() {
-		return allotments.iterator();
+		return Collections.unmodifiableSet(allotments).iterator();
 	}
 	
 	/**
@@ -144,11 +183,11 @@ public class MoneyFan<T> implements Iterable<Allotment<T>> {
 	 * @since 1.0
 	 */
 	public MoneyFan<T> negated() {
-		Set<Allotment<T>> negatedAllotments = new HashSet<Allotment<T>>();
+		Set<Allotment<T>> negatedAllotments = new HashSet<Allotment<T>>(allotments.size() * 4 / 3 + 1);
 		for (Allotment<T> allotment : allotments) {
 			negatedAllotments.add(allotment.negated());
 		}
-		return new MoneyFan<T>(negatedAllotments);
+		return new MoneyFan<T>(negatedAllotments, index(negatedAllotments));
 	}
 	
 	/**
@@ -163,25 +202,21 @@ public class MoneyFan<T> implements Iterable<Allotment<T>> {
 	 */
 	public MoneyFan<T> plus(MoneyFan<T> added) {
 		Preconditions.checkNotNull(added);
-		Set<T> allEntities = new HashSet<T>();
-		for (Allotment<T> allotment : allotments) {
-			allEntities.add(allotment.entity);
-		}
-		for (Allotment<T> allotment : added.allotments) {
-			allEntities.add(allotment.entity);
-		}
-		Set<Allotment<T>> summedAllotments = new HashSet<Allotment<T>>();
-		for (T entity : allEntities) {
-			if (this.allotment(entity) == null) {
-				summedAllotments.add(added.allotment(entity));
-			} else if (added.allotment(entity) == null) {
-				summedAllotments.add(this.allotment(entity));
+		Builder<T> builder = new Builder<T>(index.size() + added.index.size());
+		for (Allotment<T> allotment : index.values()) {
+			Allotment<T> other = added.index.get(allotment.entity);
+			if (other == null) {
+				builder.put(allotment);
 			} else {
-				Money sum = this.allotment(entity).amount.plus(added.allotment(entity).amount);
-				summedAllotments.add(new Allotment<T>(entity, sum));
+				builder.put(new Allotment<T>(allotment.entity, allotment.amount.plus(other.amount)));
+			}
+		}
+		for (Allotment<T> allotment : added.index.values()) {
+			if (index.containsKey(allotment.entity) == false) {
+				builder.put(allotment);
 			}
 		}
-		return new MoneyFan<T>(summedAllotments).withoutZeros();
+		return builder.build();
 	}
 	
 	@Override
@@ -207,20 +242,105 @@ public class MoneyFan<T> implements Iterable<Allotment<T>> {
 		return new Tally(moneies);
 	}
 	
+	
 	/**
-	 * このインスタンスが保持する {@link Allotment} のうち、割り当て金額が{@code 0}であるものを取り除いた
-	 * 新しい {@link MoneyFan}を返す。
+	 * 割り当ての集合を生成するビルダー。
 	 * 
-	 * @return {@link MoneyFan}
-	 * @since 1.0
+	 * <p>{@link MoneyFan#plus(MoneyFan)}と同様に、同じ割り当て対象に対する割当額は合算し、
+	 * 合算した割当額が0となった割り当ては生成する{@link MoneyFan}に含めない。</p>
+	 * 
+	 * <p>このクラスはスレッドセーフではない。</p>
+	 * 
+	 * @param <T> 割り当て対象
+	 * @since #version#
 	 */
-	private MoneyFan<T> withoutZeros() {
-		Set<Allotment<T>> nonZeroAllotments = new HashSet<Allotment<T>>();
-		for (Allotment<T> allotment : allotments) {
-			if (allotment.breachEncapsulationOfAmount().isZero() == false) {
-				nonZeroAllotments.add(allotment);
+	public static class Builder<T> {
+		
+		private final Map<T, Allotment<T>> index;
+		
+		
+		Builder() {
+			index = new HashMap<T, Allotment<T>>();
+		}
+		
+		Builder(int expectedSize) {
+			index = new HashMap<T, Allotment<T>>(expectedSize * 4 / 3 + 1);
+		}
+		
+		/**
+		 * 割り当てを追加する。
+		 * 
+		 * @param allotment 割り当て
+		 * @return このビルダー
+		 * @throws NullPointerException 引数に{@code null}を与えた場合
+		 * @since #version#
+		 */
+		public Builder<T> add(Allotment<T> allotment) {
+			Preconditions.checkNotNull(allotment);
+			Allotment<T> existing = index.get(allotment.entity);
+			if (existing == null) {
+				index.put(allotment.entity, allotment);
+			} else {
+				Money sum = existing.amount.plus(allotment.amount);
+				index.put(allotment.entity, new Allotment<T>(allotment.entity, sum));
 			}
+			return this;
+		}
+		
+		/**
+		 * 割り当てを追加する。
+		 * 
+		 * @param entity 割り当て対象
+		 * @param amount 割当額
+		 * @return このビルダー
+		 * @throws NullPointerException 引数に{@code null}を与えた場合
+		 * @since #version#
+		 */
+		public Builder<T> add(T entity, Money amount) {
+			return add(new Allotment<T>(entity, amount));
+		}
+		
+		/**
+		 * 割り当ての集合を追加する。
+		 * 
+		 * @param allotments 割り当ての集合
+		 * @return このビルダー
+		 * @throws NullPointerException 引数またはその要素に{@code null}を与えた場合
+		 * @since #version#
+		 */
+		public Builder<T> addAll(Iterable<Allotment<T>> allotments) {
+			Preconditions.checkNotNull(allotments);
+			for (Allotment<T> allotment : allotments) {
+				add(allotment);
+			}
+			return this;
+		}
+		
+		/**
+		 * 割り当ての集合を生成する。
+		 * 
+		 * @return {@link MoneyFan}
+		 * @since #version#
+		 */
+		public MoneyFan<T> build() {
+			Set<Allotment<T>> allotments = new HashSet<Allotment<T>>(index.size() * 4 / 3 + 1);
+			Map<T, Allotment<T>> nonZeroIndex = new HashMap<T, Allotment<T>>(index.size() * 4 / 3 + 1);
+			for (Allotment<T> allotment : index.values()) {
+				if (allotment.amount.isZero() == false) {
+					allotments.add(allotment);
+					nonZeroIndex.put(allotment.entity, allotment);
+				}
+			}
+			return new MoneyFan<T>(allotments, nonZeroIndex);
+		}
+		
+		/**
+		 * 割り当て対象が重複しないことが分かっている割り当てを追加する。
+		 * 
+		 * @param allotment 割り当て
+		 */
+		void put(Allotment<T> allotment) {
+			index.put(allotment.entity, allotment);
 		}
-		return new MoneyFan<T>(nonZeroAllotments);
 	}
 }
@@ -16,6 +16,7 @@
 package jp.xet.baseunits.money;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 
 import jp.xet.baseunits.util.Ratio;
@@ -30,6 +31,32 @@ import com.google.common.base.Preconditions;
  */
 public final class Proration {
 	
+	/** {@code long}のみで比例配分できる、合計金額の精度の上限 */
+	private static final int MAX_LONG_PRECISION = 11;
+	
+	private static final long[] POWERS_OF_TEN = {
+		1L,
+		10L,
+		100L,
+		1000L,
+		10000L,
+		100000L,
+		1000000L,
+		10000000L,
+		100000000L,
+		1000000000L,
+		10000000000L,
+		100000000000L,
+		1000000000000L,
+		10000000000000L,
+		100000000000000L,
+		1000000000000000L,
+		10000000000000000L,
+		100000000000000000L,
+		1000000000000000000L
+	};
+	
+	
 	/**
 	 * 指定した金額を{@code n}等分した金額の配列を返す。
 	 * 
@@ -135,6 +162,14 @@ public final class Proration {
 	public static Money[] proratedOver(Money total, long[] longProportions) {
 		Preconditions.checkNotNull(total);
 		Preconditions.checkNotNull(longProportions);
+		if (total.compact && isPositiveWeights(longProportions)) {
+			long[] units = proratedUnitsOver(total.units, longProportions, new long[longProportions.length]);
+			Money[] results = new Money[units.length];
+			for (int i = 0; i < units.length; i++) {
+				results[i] = Money.valueOfMinorUnits(units[i], total.currency);
+			}
+			return results;
+		}
 		BigDecimal[] proportions = new BigDecimal[longProportions.length];
 		for (int i = 0; i < longProportions.length; i++) {
 			proportions[i] = BigDecimal.valueOf(longProportions[i]);
@@ -142,6 +177,53 @@ public final class Proration {
 		return proratedOver(total, proportions);
 	}
 	
+	/**
+	 * 最小単位の数で表した金額を{@code proportions}であらわす割合で分割し、各部分の最小単位の数を{@code results}に書き込む。
+	 * 
+	 * <p>結果は{@link #proratedOver(Money, BigDecimal[])}と同じであり、割り切れなかった分（余り）は、
+	 * 最小単位に分割し、配列の頭から順に上乗せする。ただし合計金額が負の場合は、余りも負となるため、
+	 * 配列の頭から順に最小単位ずつ差し引く。計算は整数演算のみで行い、
+	 * 桁数が{@code long}の範囲を超える場合に限り{@link BigInteger}を用いる。</p>
+	 * 
+	 * <p>例えば、52円を1:3:1で等分した場合は、<code>{11, 31, 10}</code>となる。</p>
+	 * 
+	 * @param total 合計金額の最小単位の数
+	 * @param proportions 比数の配列。各要素は0以上であり、合計は正の{@code long}であること
+	 * @param results 結果を書き込む配列。{@code proportions}以上の長さであること
+	 * @return {@code results}
+	 * @throws IllegalArgumentException 比数が負である場合、比数の合計が0または{@code long}の範囲を超える場合、
+	 * 				または{@code results}の長さが足りない場合
+	 * @throws ArithmeticException 余りが部分の数を超え、配分できない場合
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public static long[] proratedUnitsOver(long total, long[] proportions, long[] results) {
+		Preconditions.checkNotNull(proportions);
+		Preconditions.checkNotNull(results);
+		Preconditions.checkArgument(isPositiveWeights(proportions), "proportions must be non-negative with a positive sum");
+		Preconditions.checkArgument(results.length >= proportions.length, "results is shorter than proportions");
+		long whole = 0;
+		for (long proportion : proportions) {
+			whole += proportion;
+		}
+		// 中間計算のスケールは、合計金額の精度+2桁（#defaultScaleForIntermediateCalculations）
+		int scale = precision(total) + 2;
+		long remainder = total;
+		for (int i = 0; i < proportions.length; i++) {
+			results[i] = simpleShare(total, proportions[i], whole, scale);
+			remainder -= results[i];
+		}
+		if (remainder < -proportions.length || remainder > proportions.length) {
+			throw new ArithmeticException("Remainder exceeds the number of parts: " + remainder);
+		}
+		// 負の金額の余りは負であるため、配列の頭から順に最小単位ずつ差し引く
+		long increment = Long.signum(remainder);
+		for (int i = 0; i < Math.abs(remainder); i++) {
+			results[i] += increment;
+		}
+		return results;
+	}
+	
 	static Money[] distributeRemainderOver(Money[] amounts, Money remainder) {
 		int increments = remainder.dividedBy(remainder.minimumIncrement())
 			.decimalValue(0, RoundingMode.UNNECESSARY).intValue();
@@ -217,6 +299,97 @@ public final class Proration {
 		return total.breachEncapsulationOfAmount().precision() + 2;
 	}
 	
+	private static boolean isPositiveWeights(long[] proportions) {
+		long whole = 0;
+		for (long proportion : proportions) {
+			if (proportion < 0) {
+				return false;
+			}
+			whole += proportion;
+			if (whole < 0) {
+				return false;
+			}
+		}
+		return whole > 0;
+	}
+	
+	/**
+	 * {@link BigDecimal#precision()}と同様に、十進数の桁数を返す。
+	 * 
+	 * @param value 値
+	 * @return 桁数。{@code 0}の場合は{@code 1}
+	 */
+	private static int precision(long value) {
+		if (value == Long.MIN_VALUE) {
+			return 19;
+		}
+		long abs = Math.abs(value);
+		int digits = 1;
+		while (digits < POWERS_OF_TEN.length && abs >= POWERS_OF_TEN[digits]) {
+			digits++;
+		}
+		return digits;
+	}
+	
+	/**
+	 * {@code portion * 10^scale / whole}の小数点以下を切り捨てた値を返す。
+	 * 
+	 * @param portion 比数（{@code 0 <= portion <= whole}）
+	 * @param whole 比数の合計（{@code whole <= Long.MAX_VALUE / 10}）
+	 * @param scale 小数点以下の桁数（18以下）
+	 * @return 値
+	 */
+	private static long scaledQuotient(long portion, long whole, int scale) {
+		if (portion <= Long.MAX_VALUE / POWERS_OF_TEN[scale]) {
+			return portion * POWERS_OF_TEN[scale] / whole;
+		}
+		// 筆算の要領で1桁ずつ求める
+		long quotient = portion / whole;
+		long remainder = portion % whole;
+		for (int i = 0; i < scale; i++) {
+			remainder *= 10;
+			quotient = quotient * 10 + remainder / whole;
+			remainder %= whole;
+		}
+		return quotient;
+	}
+	
+	/**
+	 * 余りを配分する前の、1つの部分の最小単位の数を返す。
+	 * 
+	 * <p>{@link #proratedOver(Money, BigDecimal[])}と同様に、比を{@code scale}桁に切り捨ててから金額に掛け、
+	 * さらに最小単位未満を切り捨てる。</p>
+	 * 
+	 * @param total 合計金額の最小単位の数
+	 * @param portion 比数
+	 * @param whole 比数の合計
+	 * @param scale 比のスケール（合計金額の精度+2）
+	 * @return 最小単位の数
+	 */
+	private static long simpleShare(long total, long portion, long whole, int scale) {
+		int precision = scale - 2;
+		if (precision <= MAX_LONG_PRECISION && whole <= Long.MAX_VALUE / 10) {
+			long multiplier = scaledQuotient(portion, whole, scale);
+			long abs = Math.abs(total);
+			long share;
+			if (precision <= 8) {
+				// abs < 10^8, multiplier <= 10^10 であるため、積はlongに収まる
+				share = abs * multiplier / POWERS_OF_TEN[scale];
+			} else {
+				// 乗数を上位と下位に分け、それぞれの積がlongに収まるようにする
+				// floor((a * 10^m + b) / 10^scale) = floor((a + floor(b / 10^m)) / 10^(scale - m))
+				int split = 18 - precision;
+				long high = abs * (multiplier / POWERS_OF_TEN[split]);
+				long low = abs * (multiplier % POWERS_OF_TEN[split]);
+				share = (high + low / POWERS_OF_TEN[split]) / POWERS_OF_TEN[scale - split];
+			}
+			return total < 0 ? -share : share;
+		}
+		BigInteger power = BigInteger.TEN.pow(scale);
+		BigInteger multiplier = BigInteger.valueOf(portion).multiply(power).divide(BigInteger.valueOf(whole));
+		return BigInteger.valueOf(total).multiply(multiplier).divide(power).longValueExact();
+	}
+	
 	private Proration() {
 	}
 	
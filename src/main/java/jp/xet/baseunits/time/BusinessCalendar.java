@@ -18,6 +18,7 @@ package jp.xet.baseunits.time;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jp.xet.baseunits.time.spec.DateSpecifications;
 import jp.xet.baseunits.util.ImmutableIterator;
@@ -34,12 +35,55 @@ import com.google.common.base.Preconditions;
  * 
  * <p>休日と週末は区別する。すなわち、週末は休日ではないが、週末かつ休日は休日である。</p>
  * 
+ * <p>休日仕様の変更は、新しい休日仕様とその索引を丸ごと差し替えることで行うため、
+ * 他のスレッドからの参照がロックを取得したり、変更途中の状態を観測したりすることはない。
+ * 休日仕様を変更する必要がない場合は、{@link #builder()}によって休日仕様を変更できないインスタンスを生成でき、
+ * これは同期なしに安全に公開できる。</p>
+ * 
  * @author daisuke
  * @since 1.0
  */
 public class BusinessCalendar {
 	
-	Specification<CalendarDate> holidaySpecs;
+	/**
+	 * 休日仕様を変更できない{@link BusinessCalendar}を生成するビルダーを返す。
+	 * 
+	 * @return ビルダー
+	 * @since #version#
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+	
+	private static Specification<CalendarDate> fixedDates(Set<CalendarDate> days) {
+		Preconditions.checkNotNull(days);
+		Specification<CalendarDate> specs = DateSpecifications.never();
+		for (CalendarDate date : days) {
+			Preconditions.checkNotNull(date);
+			specs = specs.or(DateSpecifications.fixed(date));
+		}
+		return specs;
+	}
+	
+	private static boolean isDeclaredByBusinessCalendar(Class<?> type, String methodName) {
+		try {
+			return type.getMethod(methodName, CalendarDate.class).getDeclaringClass() == BusinessCalendar.class;
+		} catch (NoSuchMethodException e) {
+			throw new AssertionError(e);
+		}
+	}
+	
+	
+	/** 休日仕様とその索引 */
+	private final AtomicReference<HolidayIndex> holidayIndex;
+	
+	/** 休日仕様を変更できない場合は{@code true} */
+	private final boolean immutable;
+	
+	/**
+	 * 営業日・休日の判定がオーバーライドされておらず、{@link #holidayIndex}による計算が可能な場合は{@code true}
+	 */
+	private final boolean indexable;
 	
 	
 	/**
@@ -48,7 +92,16 @@ public class BusinessCalendar {
 	 * @since 1.0
 	 */
 	public BusinessCalendar() {
-		holidaySpecs = defaultHolidaySpecs();
+		holidayIndex = new AtomicReference<>(new HolidayIndex(defaultHolidaySpecs()));
+		immutable = false;
+		indexable = isDeclaredByBusinessCalendar(getClass(), "isBusinessDay")
+				&& isDeclaredByBusinessCalendar(getClass(), "isHoliday");
+	}
+	
+	private BusinessCalendar(Specification<CalendarDate> holidaySpecs) {
+		holidayIndex = new AtomicReference<>(new HolidayIndex(holidaySpecs));
+		immutable = true;
+		indexable = true;
 	}
 	
 	/**
@@ -56,6 +109,7 @@ public class BusinessCalendar {
 	 * 
 	 * @param date 休日として取り扱う暦日 
 	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @throws UnsupportedOperationException 休日仕様を変更できないインスタンスの場合
 	 * @since 1.0
 	 */
 	public void addHoliday(CalendarDate date) {
@@ -67,16 +121,11 @@ public class BusinessCalendar {
 	 * 
 	 * @param days 休日として取り扱う暦日の集合
 	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @throws UnsupportedOperationException 休日仕様を変更できないインスタンスの場合
 	 * @since 1.0
 	 */
 	public void addHolidays(Set<CalendarDate> days) {
-		Preconditions.checkNotNull(days);
-		for (CalendarDate date : days) {
-			Preconditions.checkNotNull(date);
-		}
-		for (CalendarDate date : days) {
-			addHolidaySpec(DateSpecifications.fixed(date));
-		}
+		addHolidaySpec(fixedDates(days));
 	}
 	
 	/**
@@ -84,11 +133,13 @@ public class BusinessCalendar {
 	 * 
 	 * @param specs 休日として取り扱う暦日仕様
 	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @throws UnsupportedOperationException 休日仕様を変更できないインスタンスの場合
 	 * @since 1.0
 	 */
 	public void addHolidaySpec(Specification<CalendarDate> specs) {
 		Preconditions.checkNotNull(specs);
-		holidaySpecs = holidaySpecs.or(specs);
+		checkMutable();
+		holidayIndex.updateAndGet(index -> new HolidayIndex(index.holidaySpecs.or(specs)));
 	}
 	
 	/**
@@ -143,11 +194,20 @@ public class BusinessCalendar {
 	/**
 	 * {@link CalendarInterval}で表す期間のうち、営業日の日数を返す。
 	 * 
+	 * <p>年毎の営業日のビットマップを用いて計算するため、計算量は期間の年数にのみ依存する。
+	 * ただし、{@link #isBusinessDay(CalendarDate)}または{@link #isHoliday(CalendarDate)}を
+	 * オーバーライドしている場合は、期間内の暦日を1日ずつ判定する。</p>
+	 * 
 	 * @param interval 期間
 	 * @return 営業日の日数
 	 * @since 1.0
 	 */
 	public int getElapsedBusinessDays(CalendarInterval interval) {
+		if (indexable && interval.hasLowerLimit() && interval.hasUpperLimit()) {
+			long start = interval.start().toEpochDay();
+			long end = interval.end().toEpochDay();
+			return (int) holidayIndex.get().countBusinessDays(start, end);
+		}
 		int tally = 0;
 		Iterator<CalendarDate> iterator = businessDaysOnly(interval.daysIterator());
 		while (iterator.hasNext()) {
@@ -169,6 +229,10 @@ public class BusinessCalendar {
 	 * @since 1.0
 	 */
 	public boolean isBusinessDay(CalendarDate day) {
+		if (indexable) {
+			Preconditions.checkNotNull(day);
+			return holidayIndex.get().isBusinessDay(day.toEpochDay());
+		}
 		return isWeekend(day) == false && isHoliday(day) == false;
 	}
 	
@@ -182,7 +246,24 @@ public class BusinessCalendar {
 	 * @since 1.0
 	 */
 	public boolean isHoliday(CalendarDate day) {
-		return holidaySpecs.isSatisfiedBy(day);
+		HolidayIndex index = holidayIndex.get();
+		if (indexable && day != null) {
+			return index.isHoliday(day.toEpochDay());
+		}
+		return index.holidaySpecs.isSatisfiedBy(day);
+	}
+	
+	/**
+	 * 休日仕様を変更できないインスタンスかどうかを返す。
+	 * 
+	 * <p>{@link #builder()}で生成したインスタンスは休日仕様を変更できず、
+	 * 同じ暦日に対する営業日・休日の判定結果は常に同じである。</p>
+	 * 
+	 * @return 休日仕様を変更できない場合は{@code true}、そうでない場合は{@code false}
+	 * @since #version#
+	 */
+	public final boolean isImmutable() {
+		return immutable;
 	}
 	
 	/**
@@ -216,6 +297,9 @@ public class BusinessCalendar {
 		if (numberOfDays < 0) {
 			throw new IllegalArgumentException("Negative numberOfDays not supported");
 		}
+		if (indexable) {
+			return CalendarDate.fromEpochDay(holidayIndex.get().minusBusinessDays(day.toEpochDay(), numberOfDays));
+		}
 		Iterator<CalendarDate> iterator = CalendarInterval.everPreceding(day).daysInReverseIterator();
 		return nextNumberOfBusinessDays(numberOfDays, iterator);
 	}
@@ -287,6 +371,9 @@ public class BusinessCalendar {
 		if (numberOfDays < 0) {
 			throw new IllegalArgumentException("Negative numberOfDays not supported");
 		}
+		if (indexable) {
+			return CalendarDate.fromEpochDay(holidayIndex.get().plusBusinessDays(day.toEpochDay(), numberOfDays));
+		}
 		Iterator<CalendarDate> iterator = CalendarInterval.everFrom(day).daysIterator();
 		return nextNumberOfBusinessDays(numberOfDays, iterator);
 	}
@@ -307,6 +394,22 @@ public class BusinessCalendar {
 		}
 	}
 	
+	/**
+	 * 休日仕様を、{@link #defaultHolidaySpecs()}と指定した暦日仕様に置き換える。
+	 * 
+	 * <p>置き換えは不可分に行われ、他のスレッドからの参照は置き換え前後いずれかの休日仕様を観測する。</p>
+	 * 
+	 * @param specs 休日として取り扱う暦日仕様
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @throws UnsupportedOperationException 休日仕様を変更できないインスタンスの場合
+	 * @since #version#
+	 */
+	public void replaceHolidaySpecs(Specification<CalendarDate> specs) {
+		Preconditions.checkNotNull(specs);
+		checkMutable();
+		holidayIndex.set(new HolidayIndex(defaultHolidaySpecs().or(specs)));
+	}
+	
 	/**
 	 * Should be overriden for each particular organization.
 	 * 
@@ -317,6 +420,21 @@ public class BusinessCalendar {
 		return DateSpecifications.never();
 	}
 	
+	/**
+	 * 現在の休日仕様を返す。
+	 * 
+	 * @return 休日仕様
+	 */
+	Specification<CalendarDate> holidaySpecs() {
+		return holidayIndex.get().holidaySpecs;
+	}
+	
+	private void checkMutable() {
+		if (immutable) {
+			throw new UnsupportedOperationException("This calendar is immutable.");
+		}
+	}
+	
 	/**
 	 * 反復子の先頭から数えて{@code numberOfDays}営業日目の暦日を返す。
 	 * 
@@ -335,6 +453,71 @@ public class BusinessCalendar {
 		return result;
 	}
 	
+	
+	/**
+	 * 休日仕様を変更できない{@link BusinessCalendar}を生成するビルダー。
+	 * 
+	 * <p>このクラスはスレッドセーフではない。</p>
+	 * 
+	 * @since #version#
+	 */
+	public static class Builder {
+		
+		private Specification<CalendarDate> holidaySpecs = DateSpecifications.never();
+		
+		
+		Builder() {
+		}
+		
+		/**
+		 * 休日として判定する暦日を追加する。
+		 * 
+		 * @param date 休日として取り扱う暦日
+		 * @return このビルダー
+		 * @throws NullPointerException 引数に{@code null}を与えた場合
+		 * @since #version#
+		 */
+		public Builder addHoliday(CalendarDate date) {
+			return addHolidaySpec(DateSpecifications.fixed(date));
+		}
+		
+		/**
+		 * 休日として判定する暦日を追加する。
+		 * 
+		 * @param days 休日として取り扱う暦日の集合
+		 * @return このビルダー
+		 * @throws NullPointerException 引数に{@code null}を与えた場合
+		 * @since #version#
+		 */
+		public Builder addHolidays(Set<CalendarDate> days) {
+			return addHolidaySpec(fixedDates(days));
+		}
+		
+		/**
+		 * 休日として判定する暦日仕様を追加する。
+		 * 
+		 * @param specs 休日として取り扱う暦日仕様
+		 * @return このビルダー
+		 * @throws NullPointerException 引数に{@code null}を与えた場合
+		 * @since #version#
+		 */
+		public Builder addHolidaySpec(Specification<CalendarDate> specs) {
+			Preconditions.checkNotNull(specs);
+			holidaySpecs = holidaySpecs.or(specs);
+			return this;
+		}
+		
+		/**
+		 * 休日仕様を変更できない{@link BusinessCalendar}を生成する。
+		 * 
+		 * @return 営業日カレンダー
+		 * @since #version#
+		 */
+		public BusinessCalendar build() {
+			return new BusinessCalendar(holidaySpecs);
+		}
+	}
+	
 	/*
 	 * boolean isBusinessHours(TimePoint now) { Calendar date =
 	 * now.asJavaCalendar(); int theHour = date.get(Calendar.HOUR_OF_DAY); int
@@ -15,6 +15,10 @@
  */
 package jp.xet.baseunits.time;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -40,7 +44,6 @@ import com.google.common.base.Preconditions;
  * @since 1.0
  * @see DayOfMonth
  */
-@SuppressWarnings("serial")
 public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	
 	/**
@@ -54,7 +57,10 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public static CalendarDate from(CalendarMonth calendarMonth, DayOfMonth day) {
-		return new CalendarDate(calendarMonth, day);
+		Preconditions.checkNotNull(calendarMonth);
+		Preconditions.checkNotNull(day);
+		Preconditions.checkArgument(day.isApplyable(calendarMonth));
+		return valueOf(calendarMonth.year, calendarMonth.month.value, day.value);
 	}
 	
 	/**
@@ -69,8 +75,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	public static CalendarDate from(Date date, TimeZone zone) {
 		Preconditions.checkNotNull(date);
 		Preconditions.checkNotNull(zone);
-		Calendar calendar = TimePoint.from(date).asJavaCalendar(zone);
-		return from(calendar);
+		return from(TimePoint.from(date), zone);
 	}
 	
 	/**
@@ -86,7 +91,11 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public static CalendarDate from(int year, int month, int day) {
-		return new CalendarDate(CalendarMonth.from(year, month), DayOfMonth.valueOf(day));
+		Preconditions.checkArgument(month >= 1 && month <= 12, "Illegal value for month of year: %s", month);
+		Preconditions.checkArgument(day >= DayOfMonth.MIN_VALUE && day <= DayOfMonth.MAX_VALUE,
+				"Illegal value for day of month: %s, please use a value between 1 and 31", day);
+		Preconditions.checkArgument(day <= EpochDays.lengthOfMonth(year, month));
+		return valueOf(year, month, day);
 	}
 	
 	/**
@@ -101,7 +110,10 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public static CalendarDate from(int year, MonthOfYear month, DayOfMonth day) {
-		return from(CalendarMonth.from(year, month), day);
+		Preconditions.checkNotNull(month);
+		Preconditions.checkNotNull(day);
+		Preconditions.checkArgument(day.isApplyable(year, month));
+		return valueOf(year, month.value, day.value);
 	}
 	
 	/**
@@ -116,9 +128,33 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	public static CalendarDate from(TimePoint timePoint, TimeZone zone) {
 		Preconditions.checkNotNull(timePoint);
 		Preconditions.checkNotNull(zone);
-		Calendar calendar = timePoint.asJavaCalendar();
-		calendar.setTimeZone(zone);
-		return from(calendar);
+		long millis = timePoint.millisecondsFromEpoch;
+		if (millis < ZoneOffsetTable.LOWER_BOUND) {
+			// 先発グレゴリオ暦とユリウス暦の違いを避けるため、古い瞬間はCalendarに委ねる
+			Calendar calendar = timePoint.asJavaCalendar();
+			calendar.setTimeZone(zone);
+			return from(calendar);
+		}
+		long localMillis = millis + ZoneOffsetTable.offsetAt(zone, millis);
+		return fromEpochDay(Math.floorDiv(localMillis, (long) TimeUnitConversionFactor.millisecondsPerDay.value));
+	}
+	
+	/**
+	 * {@link #from(int, int, int)}等が返すインスタンスを共有するキャッシュの範囲を設定する。
+	 * 
+	 * <p>現在日の前後{@code windowDays}日の範囲にある暦日は、同じ値であれば同一のインスタンスが返るようになる。
+	 * {@code 0}を指定した場合はキャッシュを無効にする。既定値はシステムプロパティ
+	 * {@value #CACHE_WINDOW_PROPERTY}で指定でき、指定がない場合は{@value #DEFAULT_CACHE_WINDOW_DAYS}日である。</p>
+	 * 
+	 * <p>インスタンスの同一性に依存した処理を行ってはならない。同値性の判定には{@link #equals(Object)}を用いること。</p>
+	 * 
+	 * @param windowDays キャッシュする範囲（現在日からの日数）
+	 * @throws IllegalArgumentException 引数に負数を与えた場合
+	 * @since #version#
+	 */
+	public static void configureCache(int windowDays) {
+		Preconditions.checkArgument(windowDays >= 0, "windowDays must be zero or positive: %s", windowDays);
+		cache = new Cache(System.currentTimeMillis() / TimeUnitConversionFactor.millisecondsPerDay.value, windowDays);
 	}
 	
 	/**
@@ -191,6 +227,15 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 		return CalendarDate.from(point, arbitraryZone);
 	}
 	
+	// エポック日は内部表現であるため、現状は敢えて非公開にしている。
+	static CalendarDate fromEpochDay(long epochDay) {
+		return fromPacked(EpochDays.toPacked(epochDay));
+	}
+	
+	static CalendarDate fromPacked(int packed) {
+		return valueOf(packed);
+	}
+	
 	// calendarがTimeZone情報を含むことが分かりづらいので、現状は敢えて非公開にしている。
 	static CalendarDate from(Calendar calendar) {
 		// Use timezone already set in calendar.
@@ -200,6 +245,43 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 		return from(year, month, date);
 	}
 	
+	private static CalendarDate valueOf(int year, int month, int day) {
+		Preconditions.checkArgument(year >= EpochDays.MIN_YEAR && year <= EpochDays.MAX_YEAR,
+				"Year out of range: %s", year);
+		return valueOf(EpochDays.pack(year, month, day));
+	}
+	
+	private static CalendarDate valueOf(int packed) {
+		CalendarDate cached = cache.get(packed);
+		return cached != null ? cached : new CalendarDate(packed);
+	}
+	
+	
+	private static final long serialVersionUID = 2752121346447493639L;
+	
+	// 旧バージョンとの互換性のため、シリアライズ形式は暦月と日の組のまま維持する
+	private static final ObjectStreamField[] serialPersistentFields = {
+		new ObjectStreamField("day", DayOfMonth.class),
+		new ObjectStreamField("yearMonth", CalendarMonth.class)
+	};
+	
+	/**
+	 * {@link #configureCache(int)}の既定値を指定するシステムプロパティ名
+	 * 
+	 * @since #version#
+	 */
+	public static final String CACHE_WINDOW_PROPERTY = "jp.xet.baseunits.time.CalendarDate.cacheWindowDays";
+	
+	/**
+	 * {@link #configureCache(int)}の既定値
+	 * 
+	 * @since #version#
+	 */
+	public static final int DEFAULT_CACHE_WINDOW_DAYS = 2 * 366;
+	
+	private static volatile Cache cache = new Cache(
+			System.currentTimeMillis() / TimeUnitConversionFactor.millisecondsPerDay.value,
+			Math.max(Integer.getInteger(CACHE_WINDOW_PROPERTY, DEFAULT_CACHE_WINDOW_DAYS), 0));
 	
 	/**
 	 * エポック(1970年1月1日)の暦日
@@ -210,26 +292,15 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	
 	private static final String DEFAULT_PATTERN = "yyyy-MM-dd";
 	
-	// TODO rename to calendarMonth on v3.0
-	private final CalendarMonth yearMonth;
+	/** 年月日を{@link EpochDays#pack(int, int, int)}で詰めた値。大小関係は暦日の前後関係と一致する。 */
+	private final transient int packed;
 	
-	private final DayOfMonth day;
+	/** デシリアライズ時に復元したインスタンス */
+	private transient CalendarDate resolved;
 	
 	
-	/**
-	 * インスタンスを生成する。
-	 * 
-	 * @param calendarMonth 暦月
-	 * @param day 日
-	 * @throws IllegalArgumentException 引数{@code day}が{@code yearMonth}の月に存在しない場合
-	 * @throws NullPointerException 引数に{@code null}を与えた場合
-	 */
-	CalendarDate(CalendarMonth calendarMonth, DayOfMonth day) {
-		Preconditions.checkNotNull(calendarMonth);
-		Preconditions.checkNotNull(day);
-		Preconditions.checkArgument(day.isApplyable(calendarMonth));
-		yearMonth = calendarMonth;
-		this.day = day;
+	private CalendarDate(int packed) {
+		this.packed = packed;
 	}
 	
 	/**
@@ -239,7 +310,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public CalendarMonth asCalendarMonth() {
-		return yearMonth;
+		return getYearMonth();
 	}
 	
 	// comment-out by daisuke
@@ -281,7 +352,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public CalendarInterval asMonthInterval() {
-		return CalendarInterval.month(yearMonth);
+		return CalendarInterval.month(getYearMonth());
 	}
 	
 	/**
@@ -306,7 +377,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public CalendarInterval asYearInterval() {
-		return CalendarInterval.year(yearMonth.getYear());
+		return CalendarInterval.year(getYear());
 	}
 	
 	/**
@@ -362,13 +433,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 		if (other == null) {
 			throw new NullPointerException();
 		}
-		if (isBefore(other)) {
-			return -1;
-		}
-		if (isAfter(other)) {
-			return 1;
-		}
-		return 0;
+		return Integer.compare(packed, other.packed);
 	}
 	
 	/**
@@ -378,8 +443,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public DayOfWeek dayOfWeek() {
-		Calendar calendar = asJavaCalendarUniversalZoneMidnight();
-		return DayOfWeek.valueOf(calendar.get(Calendar.DAY_OF_WEEK));
+		return DayOfWeek.fromEpochDay(toEpochDay());
 	}
 	
 	@Override
@@ -394,10 +458,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 			return false;
 		}
 		CalendarDate other = (CalendarDate) obj;
-		if (day.equals(other.day) == false) {
-			return false;
-		}
-		if (yearMonth.equals(other.yearMonth) == false) {
+		if (packed != other.packed) {
 			return false;
 		}
 		return true;
@@ -430,7 +491,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public DayOfMonth getDayOfMonth() {
-		return day;
+		return DayOfMonth.valueOf(EpochDays.dayOf(packed));
 	}
 	
 	/**
@@ -440,7 +501,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public MonthOfYear getMonthOfYear() {
-		return yearMonth.getMonthOfYear();
+		return MonthOfYear.valueOf(EpochDays.monthOf(packed));
 	}
 	
 	/**
@@ -450,7 +511,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public int getYear() {
-		return yearMonth.getYear();
+		return EpochDays.yearOf(packed);
 	}
 	
 	/**
@@ -460,16 +521,12 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public CalendarMonth getYearMonth() {
-		return yearMonth;
+		return CalendarMonth.from(getYear(), getMonthOfYear());
 	}
 	
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + day.hashCode();
-		result = prime * result + yearMonth.hashCode();
-		return result;
+		return packed;
 	}
 	
 	/**
@@ -486,7 +543,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 		if (other == null) {
 			return false;
 		}
-		return isBefore(other) == false && equals(other) == false;
+		return packed > other.packed;
 	}
 	
 	/**
@@ -503,7 +560,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 		if (other == null) {
 			return false;
 		}
-		return isBefore(other) == false;
+		return packed >= other.packed;
 	}
 	
 	/**
@@ -520,13 +577,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 		if (other == null) {
 			return false;
 		}
-		if (yearMonth.isBefore(other.yearMonth)) {
-			return true;
-		}
-		if (yearMonth.isAfter(other.yearMonth)) {
-			return false;
-		}
-		return day.isBefore(other.day);
+		return packed < other.packed;
 	}
 	
 	/**
@@ -543,13 +594,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 		if (other == null) {
 			return false;
 		}
-		if (yearMonth.isBefore(other.yearMonth)) {
-			return true;
-		}
-		if (yearMonth.isAfter(other.yearMonth)) {
-			return false;
-		}
-		return day.isBeforeOrEquals(other.day);
+		return packed <= other.packed;
 	}
 	
 	/**
@@ -600,12 +645,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public CalendarDate plusDays(int increment) {
-		Calendar calendar = asJavaCalendarUniversalZoneMidnight();
-		calendar.add(Calendar.DATE, increment);
-		int year = calendar.get(Calendar.YEAR);
-		int month = calendar.get(Calendar.MONTH) + 1;
-		int day = calendar.get(Calendar.DATE); // CHECKSTYLE IGNORE THIS LINE
-		return CalendarDate.from(year, month, day);
+		return fromEpochDay(toEpochDay() + increment);
 	}
 	
 	/**
@@ -618,12 +658,7 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 	 * @since 1.0
 	 */
 	public CalendarDate plusMonths(int increment) {
-		Calendar calendar = asJavaCalendarUniversalZoneMidnight();
-		calendar.add(Calendar.MONTH, increment);
-		int year = calendar.get(Calendar.YEAR);
-		int month = calendar.get(Calendar.MONTH) + 1;
-		int day = calendar.get(Calendar.DATE); // CHECKSTYLE IGNORE THIS LINE
-		return CalendarDate.from(year, month, day);
+		return fromPacked(EpochDays.plusMonths(getYear(), EpochDays.monthOf(packed), EpochDays.dayOf(packed), increment));
 	}
 	
 	/**
@@ -701,15 +736,95 @@ public class CalendarDate implements Comparable<CalendarDate>, Serializable {
 		return point.toString(pattern, locale, arbitraryZone);
 	}
 	
+	/**
+	 * この暦日のエポック(1970年1月1日)からの通算日数を返す。
+	 * 
+	 * @return エポック日
+	 */
+	long toEpochDay() {
+		return EpochDays.toEpochDay(getYear(), EpochDays.monthOf(packed), EpochDays.dayOf(packed));
+	}
+	
+	/**
+	 * この暦日が属する月の、エポック(1970年1月)からの通算月数を返す。
+	 * 
+	 * @return エポック月
+	 */
+	long toEpochMonth() {
+		return (getYear() - 1970L) * 12 + EpochDays.monthOf(packed) - 1;
+	}
+	
+	/**
+	 * この暦日が月末日であるかどうかを返す。
+	 * 
+	 * @return 月末日である場合は{@code true}、そうでない場合は{@code false}
+	 */
+	boolean isLastDayOfMonth() {
+		return EpochDays.dayOf(packed) == EpochDays.lengthOfMonth(getYear(), EpochDays.monthOf(packed));
+	}
+	
 	Calendar asJavaCalendarUniversalZoneMidnight() {
 		Calendar calendar = CalendarUtil.newCalendar();
-		calendar.set(Calendar.YEAR, yearMonth.getYear());
-		calendar.set(Calendar.MONTH, yearMonth.getMonthOfYear().value - 1);
-		calendar.set(Calendar.DATE, day.value);
+		calendar.set(Calendar.YEAR, getYear());
+		calendar.set(Calendar.MONTH, EpochDays.monthOf(packed) - 1);
+		calendar.set(Calendar.DATE, EpochDays.dayOf(packed));
 		calendar.set(Calendar.HOUR_OF_DAY, 0);
 		calendar.set(Calendar.MINUTE, 0);
 		calendar.set(Calendar.SECOND, 0);
 		calendar.set(Calendar.MILLISECOND, 0);
 		return calendar;
 	}
+	
+	private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = stream.readFields();
+		resolved = from((CalendarMonth) fields.get("yearMonth", null), (DayOfMonth) fields.get("day", null));
+	}
+	
+	private Object readResolve() {
+		return resolved;
+	}
+	
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		ObjectOutputStream.PutField fields = stream.putFields();
+		fields.put("yearMonth", getYearMonth());
+		fields.put("day", getDayOfMonth());
+		stream.writeFields();
+	}
+	
+	
+	/**
+	 * 現在日の前後の一定範囲の暦日のインスタンスを共有するキャッシュ。
+	 * 
+	 * <p>{@link CalendarDate}の値は{@code final}フィールドに保持されるため、
+	 * 配列要素の書き込みが競合しても、他のスレッドから不完全なインスタンスが見えることはない。</p>
+	 */
+	private static final class Cache {
+		
+		private final long firstEpochDay;
+		
+		private final CalendarDate[] dates;
+		
+		
+		Cache(long todayEpochDay, int windowDays) {
+			firstEpochDay = todayEpochDay - windowDays;
+			dates = new CalendarDate[windowDays == 0 ? 0 : windowDays * 2 + 1];
+		}
+		
+		CalendarDate get(int packed) {
+			if (dates.length == 0) {
+				return null;
+			}
+			long index = EpochDays.toEpochDay(EpochDays.yearOf(packed), EpochDays.monthOf(packed),
+					EpochDays.dayOf(packed)) - firstEpochDay;
+			if (index < 0 || index >= dates.length) {
+				return null;
+			}
+			CalendarDate date = dates[(int) index];
+			if (date == null) {
+				date = new CalendarDate(packed);
+				dates[(int) index] = date;
+			}
+			return date;
+		}
+	}
 }
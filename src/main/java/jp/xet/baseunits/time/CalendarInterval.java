@@ -15,10 +15,15 @@
  */
 package jp.xet.baseunits.time;
 
-import java.util.Calendar;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TimeZone;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jp.xet.baseunits.intervals.Interval;
 import jp.xet.baseunits.util.ImmutableIterator;
@@ -33,7 +38,6 @@ import com.google.common.base.Preconditions;
  * @author daisuke
  * @since 1.0
  */
-@SuppressWarnings("serial")
 public class CalendarInterval extends Interval<CalendarDate> {
 	
 	/**
@@ -211,11 +215,8 @@ public class CalendarInterval extends Interval<CalendarDate> {
 	 * @since 1.0
 	 */
 	public static CalendarInterval week(CalendarWeek week) {
-		Calendar cal = week.asJavaCalendarUniversalZoneMidnight();
-		CalendarDate startDate = CalendarDate.from(cal);
-		CalendarDate endDate = startDate.plusDays(6);
-		return inclusive(startDate, endDate);
-		
+		long start = week.startEpochDay();
+		return inclusive(CalendarDate.fromEpochDay(start), CalendarDate.fromEpochDay(start + 6));
 	}
 	
 	/**
@@ -247,6 +248,10 @@ public class CalendarInterval extends Interval<CalendarDate> {
 		return inclusive(startDate, endDate);
 	}
 	
+	
+	private static final long serialVersionUID = 1028416647409793542L;
+	
+	
 	/**
 	 * インスタンスを生成する。
 	 * 
@@ -282,6 +287,24 @@ public class CalendarInterval extends Interval<CalendarDate> {
 		return TimePointInterval.over(startPoint, endPoint);
 	}
 	
+	/**
+	 * この期間に含まれる暦日を、開始暦日から順に並べたストリームを返す。
+	 * 
+	 * <p>返すストリームは順次ストリームであり、{@code parallel()}によって並列化できる。
+	 * その{@link java.util.Spliterator}は{@link java.util.Spliterator#SIZED}及び
+	 * {@link java.util.Spliterator#SUBSIZED}の特性を持ち、エポック日の範囲を等分して分割される。</p>
+	 * 
+	 * @return 暦日のストリーム
+	 * @throws IllegalStateException この期間が開始暦日（下側限界）または終了暦日（上側限界）を持たない場合
+	 * @since #version#
+	 */
+	public Stream<CalendarDate> days() {
+		if (hasLowerLimit() == false || hasUpperLimit() == false) {
+			throw new IllegalStateException();
+		}
+		return stream(firstEpochDay(), lastEpochDay() + 1, CalendarDate::fromEpochDay);
+	}
+	
 	/**
 	 * この期間の終了暦日を起点として、前回の暦日の前日を
 	 * この期間の開始暦日を超過しない範囲で順次取得する反復子を取得する。
@@ -400,6 +423,24 @@ public class CalendarInterval extends Interval<CalendarDate> {
 		return upperLimit();
 	}
 	
+	/**
+	 * この期間に含まれる暦日のエポック(1970年1月1日)からの通算日数を、昇順に並べたストリームを返す。
+	 * 
+	 * <p>返すストリームは順次ストリームであり、{@code parallel()}によって並列化できる。
+	 * その{@link java.util.Spliterator}は{@link java.util.Spliterator#SIZED}及び
+	 * {@link java.util.Spliterator#SUBSIZED}の特性を持ち、エポック日の範囲を等分して分割される。</p>
+	 * 
+	 * @return エポック日のストリーム
+	 * @throws IllegalStateException この期間が開始暦日（下側限界）または終了暦日（上側限界）を持たない場合
+	 * @since #version#
+	 */
+	public LongStream epochDays() {
+		if (hasLowerLimit() == false || hasUpperLimit() == false) {
+			throw new IllegalStateException();
+		}
+		return LongStream.rangeClosed(firstEpochDay(), lastEpochDay());
+	}
+	
 	@Override
 	public CalendarInterval intersect(Interval<CalendarDate> other) {
 		return (CalendarInterval) super.intersect(other);
@@ -427,10 +468,7 @@ public class CalendarInterval extends Interval<CalendarDate> {
 		if (hasLowerLimit() == false || hasUpperLimit() == false) {
 			throw new IllegalStateException();
 		}
-		Calendar calStart = start().asJavaCalendarUniversalZoneMidnight();
-		Calendar calEnd = end().plusDays(1).asJavaCalendarUniversalZoneMidnight();
-		long diffMillis = calEnd.getTimeInMillis() - calStart.getTimeInMillis();
-		return (int) (diffMillis / TimeUnitConversionFactor.millisecondsPerDay.value);
+		return (int) (end().toEpochDay() - start().toEpochDay() + 1);
 	}
 	
 	/**
@@ -459,11 +497,34 @@ public class CalendarInterval extends Interval<CalendarDate> {
 		if (hasLowerLimit() == false || hasUpperLimit() == false) {
 			throw new IllegalStateException();
 		}
-		Calendar calStart = start().asJavaCalendarUniversalZoneMidnight();
-		Calendar calEnd = end().plusDays(1).asJavaCalendarUniversalZoneMidnight();
-		int yearDiff = calEnd.get(Calendar.YEAR) - calStart.get(Calendar.YEAR);
-		int monthDiff = yearDiff * 12 + calEnd.get(Calendar.MONTH) - calStart.get(Calendar.MONTH);
-		return monthDiff;
+		// 終了暦日の翌日が属する月までの月数を数えるため、終了暦日が月末日であれば翌月とみなす
+		CalendarDate end = end();
+		long endMonth = end.isLastDayOfMonth() ? end.toEpochMonth() + 1 : end.toEpochMonth();
+		return (int) (endMonth - start().toEpochMonth());
+	}
+	
+	/**
+	 * この期間の暦日を含む暦月を、古い順に並べたストリームを返す。
+	 * 
+	 * <p>返すストリームは順次ストリームであり、{@code parallel()}によって並列化できる。
+	 * その{@link java.util.Spliterator}は{@link java.util.Spliterator#SIZED}及び
+	 * {@link java.util.Spliterator#SUBSIZED}の特性を持ち、月の範囲を等分して分割される。</p>
+	 * 
+	 * @return 暦月のストリーム
+	 * @throws IllegalStateException この期間が開始暦日（下側限界）または終了暦日（上側限界）を持たない場合
+	 * @since #version#
+	 */
+	public Stream<CalendarMonth> months() {
+		if (hasLowerLimit() == false || hasUpperLimit() == false) {
+			throw new IllegalStateException();
+		}
+		long first = firstEpochDay();
+		long last = lastEpochDay();
+		if (first > last) {
+			return Stream.empty();
+		}
+		return stream(CalendarDate.fromEpochDay(first).toEpochMonth(),
+				CalendarDate.fromEpochDay(last).toEpochMonth() + 1, CalendarInterval::monthOf);
 	}
 	
 	/**
@@ -657,6 +718,73 @@ public class CalendarInterval extends Interval<CalendarDate> {
 		};
 	}
 	
+	/**
+	 * この期間の開始暦日から、指定した長さの期間を順に並べたストリームを返す。
+	 * 
+	 * <p>要素は{@link #subintervalIterator(Duration)}が返す反復子と同じであり、この期間に
+	 * 完全に含まれる期間のみを含む。</p>
+	 * 
+	 * <p>返すストリームは順次ストリームであり、{@code parallel()}によって並列化できる。
+	 * 引数subintervalLengthが日単位に変換できる場合、その{@link java.util.Spliterator}は
+	 * {@link java.util.Spliterator#SIZED}及び{@link java.util.Spliterator#SUBSIZED}の特性を持ち、
+	 * 期間の範囲を等分して分割される。月単位の長さは月によって日数が異なるため、
+	 * その場合は反復子を順に辿るストリームとなり、効率よく分割されない。</p>
+	 * 
+	 * @param subintervalLength ストリームが返す期間の長さ
+	 * @return 期間のストリーム
+	 * @throws IllegalStateException この期間が開始暦日（下側限界）または終了暦日（上側限界）を持たない場合
+	 * @throws IllegalArgumentException 引数subintervalLengthの長さ単位が「日」未満の場合
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public Stream<CalendarInterval> subintervals(Duration subintervalLength) {
+		Preconditions.checkNotNull(subintervalLength);
+		if (hasLowerLimit() == false || hasUpperLimit() == false) {
+			throw new IllegalStateException();
+		}
+		TimeUnit unit = subintervalLength.normalizedUnit();
+		if (TimeUnit.day.compareTo(unit) > 0) {
+			throw new IllegalArgumentException("CalendarIntervals must be a whole number of days or months.");
+		}
+		final long length = unit.isConvertibleTo(TimeUnit.day) ? subintervalLength.to(TimeUnit.day) : 0;
+		if (length <= 0) {
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(subintervalIterator(subintervalLength),
+					Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+		}
+		if (includesLowerLimit() == false) {
+			return Stream.empty();
+		}
+		final long start = lowerLimit().toEpochDay();
+		long count = Math.max(0, (lastEpochDay() - start + 1) / length);
+		return stream(0, count, i -> inclusive(CalendarDate.fromEpochDay(start + i * length),
+				CalendarDate.fromEpochDay(start + (i + 1) * length - 1)));
+	}
+	
+	/**
+	 * この期間の暦日を含む暦週を、古い順に並べたストリームを返す。
+	 * 
+	 * <p>返すストリームは順次ストリームであり、{@code parallel()}によって並列化できる。
+	 * その{@link java.util.Spliterator}は{@link java.util.Spliterator#SIZED}及び
+	 * {@link java.util.Spliterator#SUBSIZED}の特性を持ち、週の範囲を等分して分割される。</p>
+	 * 
+	 * @return 暦週のストリーム
+	 * @throws IllegalStateException この期間が開始暦日（下側限界）または終了暦日（上側限界）を持たない場合
+	 * @since #version#
+	 */
+	public Stream<CalendarWeek> weeks() {
+		if (hasLowerLimit() == false || hasUpperLimit() == false) {
+			throw new IllegalStateException();
+		}
+		long first = firstEpochDay();
+		long last = lastEpochDay();
+		if (first > last) {
+			return Stream.empty();
+		}
+		final long start = CalendarWeek.fromEpochDay(first).startEpochDay();
+		long count = (CalendarWeek.fromEpochDay(last).startEpochDay() - start) / 7 + 1;
+		return stream(0, count, i -> CalendarWeek.fromEpochDay(start + i * 7));
+	}
+	
 	/**
 	 * この期間の終了暦日を含む暦週を起点として、前回の前週を
 	 * この期間の開始暦日を含む暦週を超過しない範囲で順次取得する反復子を取得する。
@@ -748,4 +876,39 @@ public class CalendarInterval extends Interval<CalendarDate> {
 			}
 		};
 	}
+	
+	/**
+	 * エポック(1970年1月)からの通算月数があらわす暦月を返す。
+	 * 
+	 * @param epochMonth エポック月
+	 * @return 暦月
+	 */
+	private static CalendarMonth monthOf(long epochMonth) {
+		int year = (int) (Math.floorDiv(epochMonth, 12) + 1970);
+		return CalendarMonth.from(year, (int) Math.floorMod(epochMonth, 12) + 1);
+	}
+	
+	private static <T>Stream<T> stream(long from, long to, LongFunction<T> mapper) {
+		return StreamSupport.stream(new LongRangeSpliterator<T>(from, to, mapper), false);
+	}
+	
+	/**
+	 * この期間に含まれる最初の暦日のエポック日を返す。
+	 * 
+	 * @return エポック日
+	 */
+	private long firstEpochDay() {
+		long epochDay = lowerLimit().toEpochDay();
+		return includesLowerLimit() ? epochDay : epochDay + 1;
+	}
+	
+	/**
+	 * この期間に含まれる最後の暦日のエポック日を返す。
+	 * 
+	 * @return エポック日
+	 */
+	private long lastEpochDay() {
+		long epochDay = upperLimit().toEpochDay();
+		return includesUpperLimit() ? epochDay : epochDay - 1;
+	}
 }
@@ -83,9 +83,8 @@ public class CalendarMonth implements Comparable<CalendarMonth>, Serializable {
 	public static CalendarMonth from(TimePoint timePoint, TimeZone zone) {
 		Preconditions.checkNotNull(timePoint);
 		Preconditions.checkNotNull(zone);
-		Calendar calendar = timePoint.asJavaCalendar();
-		calendar.setTimeZone(zone);
-		return CalendarMonth.from(calendar);
+		CalendarDate date = CalendarDate.from(timePoint, zone);
+		return CalendarMonth.from(date.getYear(), date.getMonthOfYear());
 	}
 	
 	/**
@@ -17,7 +17,6 @@ package jp.xet.baseunits.time;
 
 import java.io.Serializable;
 import java.text.SimpleDateFormat;
-import java.util.Calendar;
 import java.util.TimeZone;
 
 import jp.xet.baseunits.util.TimeZones;
@@ -37,7 +36,6 @@ import com.google.common.base.Preconditions;
  * @since 2.0
  * @see WeekOfYear
  */
-@SuppressWarnings("serial")
 public class CalendarWeek implements Comparable<CalendarWeek>, Serializable {
 	
 	/**
@@ -50,22 +48,7 @@ public class CalendarWeek implements Comparable<CalendarWeek>, Serializable {
 	 */
 	public static CalendarWeek from(CalendarDate date) {
 		Preconditions.checkNotNull(date);
-		Calendar cal = date.asJavaCalendarUniversalZoneMidnight();
-		int year = cal.get(Calendar.YEAR);
-		int month = cal.get(Calendar.MONTH);
-		int weekOfYear = cal.get(Calendar.WEEK_OF_YEAR);
-		
-		if (month == Calendar.JANUARY) {
-			if (weekOfYear >= 52) { // CHECKSTYLE IGNORE THIS LINE
-				--year;
-			}
-		} else {
-			if (weekOfYear == 1) {
-				++year;
-			}
-		}
-		
-		return from(year, weekOfYear);
+		return fromEpochDay(date.toEpochDay());
 	}
 	
 	/**
@@ -94,11 +77,39 @@ public class CalendarWeek implements Comparable<CalendarWeek>, Serializable {
 		return new CalendarWeek(year, week);
 	}
 	
+	/**
+	 * 指定したエポック日を含む暦週を返す。
+	 * 
+	 * <p>ISO 8601に従い、週は月曜日に始まり、その週の木曜日が属する年の週とする。</p>
+	 * 
+	 * @param epochDay エポック(1970年1月1日)からの通算日数
+	 * @return 暦週
+	 */
+	static CalendarWeek fromEpochDay(long epochDay) {
+		// 週の木曜日が属する年が、その週の年となる
+		long thursday = epochDay - Math.floorMod(epochDay - 4, 7) + 3;
+		int year = EpochDays.yearOf(EpochDays.toPacked(thursday));
+		long weekOfYear = (thursday - EpochDays.toEpochDay(year, 1, 1)) / 7 + 1;
+		return new CalendarWeek(year, WeekOfYear.valueOf((int) weekOfYear));
+	}
+	
+	/**
+	 * 指定した年の第1週の月曜日のエポック日を返す。
+	 * 
+	 * @param year 年
+	 * @return エポック日
+	 */
+	private static long firstMondayEpochDay(int year) {
+		// 1月4日を含む週が第1週となる
+		long jan4 = EpochDays.toEpochDay(year, 1, 4);
+		return jan4 - Math.floorMod(jan4 - 4, 7);
+	}
 	
-	private static final DayOfWeek START_DAY_OF_WEEK = DayOfWeek.MONDAY;
 	
 	private static final DayOfWeek END_DAY_OF_WEEK = DayOfWeek.SUNDAY;
 	
+	private static final long serialVersionUID = 4456108364661496030L;
+	
 	final int year;
 	
 	final WeekOfYear week;
@@ -158,8 +169,7 @@ public class CalendarWeek implements Comparable<CalendarWeek>, Serializable {
 	 */
 	public CalendarDate at(DayOfWeek dow) {
 		Preconditions.checkNotNull(dow);
-		CalendarDate start = asCalendarInterval().start();
-		return start.plusDays(dow.ordinal());
+		return CalendarDate.fromEpochDay(startEpochDay() + dow.ordinal());
 	}
 	
 	/**
@@ -310,10 +320,7 @@ public class CalendarWeek implements Comparable<CalendarWeek>, Serializable {
 	 * @since 2.0
 	 */
 	public CalendarWeek plusWeeks(int increment) {
-		Calendar calendar = asJavaCalendarUniversalZoneMidnight();
-		calendar.add(Calendar.WEEK_OF_YEAR, increment);
-		CalendarDate calendarDate = CalendarDate.from(calendar);
-		return CalendarWeek.from(calendarDate);
+		return fromEpochDay(startEpochDay() + 7L * increment);
 	}
 	
 	/**
@@ -369,15 +376,14 @@ public class CalendarWeek implements Comparable<CalendarWeek>, Serializable {
 		return point.toString(pattern, arbitraryZone);
 	}
 	
-	Calendar asJavaCalendarUniversalZoneMidnight() {
-		Calendar calendar = CalendarUtil.newCalendar();
-		calendar.set(Calendar.YEAR, year);
-		calendar.set(Calendar.WEEK_OF_YEAR, week.value);
-		calendar.set(Calendar.DAY_OF_WEEK, START_DAY_OF_WEEK.value);
-		calendar.set(Calendar.HOUR_OF_DAY, 0);
-		calendar.set(Calendar.MINUTE, 0);
-		calendar.set(Calendar.SECOND, 0);
-		calendar.set(Calendar.MILLISECOND, 0);
-		return calendar;
+	/**
+	 * この週の最初の日（月曜日）のエポック日を返す。
+	 * 
+	 * <p>その年に存在しない第53週は、翌年の第1週として扱う。</p>
+	 * 
+	 * @return エポック日
+	 */
+	long startEpochDay() {
+		return firstMondayEpochDay(year) + (week.value - 1) * 7L;
 	}
 }
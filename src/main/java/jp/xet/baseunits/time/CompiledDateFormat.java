@@ -0,0 +1,409 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import java.nio.CharBuffer;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * {@link SimpleDateFormat}のパターン・ロケール・タイムゾーンの組に対して構築済みの、不変な書式。
+ * 
+ * <p>このクラスのインスタンスはスレッドセーフであり、{@link #of(String, Locale, TimeZone)}によって
+ * パターン・ロケール・タイムゾーンの組毎にキャッシュされる。整形及び解析の結果は、
+ * {@link CalendarUtil#newSimpleDateFormat(String, Locale, TimeZone)}による{@link SimpleDateFormat}と同じである。</p>
+ * 
+ * <p>{@code "yyyy-MM-dd"}, {@code "yyyy-MM"}及び{@link TimePoint#ISO8601_FORMAT_UNIVERSAL}のパターンについては、
+ * {@link SimpleDateFormat}を用いずに各桁を直接読み書きする。</p>
+ * 
+ * @since #version#
+ */
+public final class CompiledDateFormat {
+	
+	/**
+	 * パターン・ロケール・タイムゾーンの組に対する書式を返す。
+	 * 
+	 * @param pattern {@link SimpleDateFormat}に基づくパターン
+	 * @param locale ロケール
+	 * @param zone タイムゾーン
+	 * @return 書式
+	 * @throws IllegalArgumentException パターンが不正である場合
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public static CompiledDateFormat of(String pattern, Locale locale, TimeZone zone) {
+		Preconditions.checkNotNull(pattern);
+		Preconditions.checkNotNull(locale);
+		Preconditions.checkNotNull(zone);
+		CompiledDateFormat key = new CompiledDateFormat(pattern, locale, zone);
+		CompiledDateFormat format = CACHE.get(key);
+		if (format == null) {
+			// 変更可能なTimeZoneがキャッシュの外から変更されないよう、複製を保持する
+			format = new CompiledDateFormat(pattern, locale, (TimeZone) zone.clone()).compile();
+			// 同値性を定義しないTimeZone実装の場合、複製をキーとしても再利用されないためキャッシュしない
+			if (format.equals(key) && CACHE.size() < MAX_CACHE_SIZE) {
+				CompiledDateFormat existing = CACHE.putIfAbsent(format, format);
+				if (existing != null) {
+					format = existing;
+				}
+			}
+		}
+		return format;
+	}
+	
+	/**
+	 * デフォルトロケールにおける、パターン・タイムゾーンの組に対する書式を返す。
+	 * 
+	 * @param pattern {@link SimpleDateFormat}に基づくパターン
+	 * @param zone タイムゾーン
+	 * @return 書式
+	 * @throws IllegalArgumentException パターンが不正である場合
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public static CompiledDateFormat of(String pattern, TimeZone zone) {
+		return of(pattern, Locale.getDefault(), zone);
+	}
+	
+	private static int parseDigits(CharSequence text, int offset, int length) {
+		int result = 0;
+		for (int i = offset; i < offset + length; i++) {
+			char c = text.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			result = result * 10 + (c - '0');
+		}
+		return result;
+	}
+	
+	private static void putDigits(char[] buffer, int offset, int length, int value) {
+		for (int i = offset + length - 1; i >= offset; i--) {
+			buffer[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+	
+	
+	/** キャッシュする書式の数の上限 */
+	private static final int MAX_CACHE_SIZE = 1024;
+	
+	private static final ConcurrentMap<CompiledDateFormat, CompiledDateFormat> CACHE = new ConcurrentHashMap<>();
+	
+	/** 各桁を直接読み書きする年の下限（グレゴリオ暦への切替後） */
+	private static final int MIN_FAST_YEAR = 1583;
+	
+	/** 各桁を直接読み書きする年の上限（4桁） */
+	private static final int MAX_FAST_YEAR = 9999;
+	
+	private static final int MILLIS_PER_DAY = TimeUnitConversionFactor.millisecondsPerDay.value;
+	
+	
+	private final String pattern;
+	
+	private final Locale locale;
+	
+	private final TimeZone zone;
+	
+	/** 各桁を直接読み書きするパターンの場合はその種類、そうでない場合は{@code null} */
+	private final FastPattern fastPattern;
+	
+	/** スレッド毎の{@link SimpleDateFormat}。キャッシュの検索キーとして生成した場合は{@code null} */
+	private final ThreadLocal<SimpleDateFormat> formats;
+	
+	
+	private CompiledDateFormat(String pattern, Locale locale, TimeZone zone) {
+		this.pattern = pattern;
+		this.locale = locale;
+		this.zone = zone;
+		fastPattern = null;
+		formats = null;
+	}
+	
+	private CompiledDateFormat(CompiledDateFormat key, SimpleDateFormat prototype, FastPattern fastPattern) {
+		pattern = key.pattern;
+		locale = key.locale;
+		zone = key.zone;
+		this.fastPattern = fastPattern;
+		formats = ThreadLocal.withInitial(() -> (SimpleDateFormat) prototype.clone());
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof CompiledDateFormat == false) {
+			return false;
+		}
+		CompiledDateFormat other = (CompiledDateFormat) obj;
+		return pattern.equals(other.pattern) && locale.equals(other.locale) && zone.equals(other.zone);
+	}
+	
+	/**
+	 * 瞬間を整形する。
+	 * 
+	 * @param timePoint 瞬間
+	 * @return 整形済み時間文字列
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public String format(TimePoint timePoint) {
+		Preconditions.checkNotNull(timePoint);
+		long millis = timePoint.toEpochMillisec();
+		if (fastPattern != null) {
+			char[] buffer = new char[fastPattern.template.length];
+			if (formatFast(millis, buffer, 0) >= 0) {
+				return new String(buffer);
+			}
+		}
+		return formats.get().format(new Date(millis));
+	}
+	
+	/**
+	 * 瞬間を、文字列を生成せずに配列へ直接整形する。
+	 * 
+	 * <p>各桁を直接書き出せるパターン及び瞬間であり、かつ配列に十分な空きがある場合に限り、
+	 * {@link #format(TimePoint)}と同じ文字列を書き込む。そうでない場合は配列を変更せずに{@code -1}を返すため、
+	 * 呼び出し側は{@link #format(TimePoint)}を用いること。</p>
+	 * 
+	 * @param timePoint 瞬間
+	 * @param buffer 書き込み先の配列
+	 * @param offset 書き込みを開始する位置
+	 * @return 書き込んだ文字数。直接書き出せない場合は{@code -1}
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @throws IndexOutOfBoundsException {@code offset}が配列の範囲外である場合
+	 * @since #version#
+	 */
+	public int format(TimePoint timePoint, char[] buffer, int offset) {
+		Preconditions.checkNotNull(timePoint);
+		Preconditions.checkNotNull(buffer);
+		Preconditions.checkPositionIndex(offset, buffer.length);
+		if (fastPattern == null || buffer.length - offset < fastPattern.template.length) {
+			return -1;
+		}
+		return formatFast(timePoint.toEpochMillisec(), buffer, offset);
+	}
+	
+	/**
+	 * ロケールを返す。
+	 * 
+	 * @return ロケール
+	 * @since #version#
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+	
+	/**
+	 * パターンを返す。
+	 * 
+	 * @return {@link SimpleDateFormat}に基づくパターン
+	 * @since #version#
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(pattern, locale, zone);
+	}
+	
+	/**
+	 * 文字列を解析し、瞬間を返す。
+	 * 
+	 * @param text 時間を表す文字列
+	 * @return {@link TimePoint}
+	 * @throws ParseException 文字列の解析に失敗した場合
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public TimePoint parse(String text) throws ParseException {
+		Preconditions.checkNotNull(text);
+		if (fastPattern != null) {
+			long localMillis = parseFast(text);
+			if (localMillis != Long.MIN_VALUE) {
+				return TimePoint.from(ZoneOffsetTable.toEpochMillis(zone, localMillis));
+			}
+		}
+		return TimePoint.from(formats.get().parse(text));
+	}
+	
+	/**
+	 * 配列の一部を文字列を生成せずに直接解析し、瞬間を返す。
+	 * 
+	 * <p>各桁を直接読み取れない場合に限り、文字列を生成して{@link #parse(String)}と同様に解析する。</p>
+	 * 
+	 * @param text 時間を表す文字を含む配列
+	 * @param offset 解析を開始する位置
+	 * @param length 解析する文字数
+	 * @return {@link TimePoint}
+	 * @throws ParseException 文字列の解析に失敗した場合
+	 * @throws NullPointerException 引数{@code text}に{@code null}を与えた場合
+	 * @throws IndexOutOfBoundsException {@code offset}及び{@code length}が配列の範囲外を示す場合
+	 * @since #version#
+	 */
+	public TimePoint parse(char[] text, int offset, int length) throws ParseException {
+		Preconditions.checkNotNull(text);
+		Preconditions.checkPositionIndexes(offset, offset + length, text.length);
+		if (fastPattern != null) {
+			long localMillis = parseFast(CharBuffer.wrap(text, offset, length));
+			if (localMillis != Long.MIN_VALUE) {
+				return TimePoint.from(ZoneOffsetTable.toEpochMillis(zone, localMillis));
+			}
+		}
+		return TimePoint.from(formats.get().parse(new String(text, offset, length)));
+	}
+	
+	@Override
+	public String toString() {
+		return pattern;
+	}
+	
+	private CompiledDateFormat compile() {
+		SimpleDateFormat prototype = CalendarUtil.newSimpleDateFormat(pattern, locale, zone);
+		FastPattern fast = FastPattern.of(pattern);
+		if (fast != null
+				&& (prototype.getCalendar().getClass() != GregorianCalendar.class
+				|| DecimalFormatSymbols.getInstance(locale).getZeroDigit() != '0')) {
+			// 暦や数字が異なるロケールでは、SimpleDateFormatに委ねる
+			fast = null;
+		}
+		return new CompiledDateFormat(this, prototype, fast);
+	}
+	
+	/**
+	 * 各桁を直接書き出して整形する。
+	 * 
+	 * @param millis エポックからの経過ミリ秒
+	 * @param buffer 雛形の長さ以上の空きがある書き込み先の配列
+	 * @param offset 書き込みを開始する位置
+	 * @return 書き込んだ文字数。直接書き出せない年の場合は{@code -1}
+	 */
+	private int formatFast(long millis, char[] buffer, int offset) {
+		long localMillis = millis + ZoneOffsetTable.offsetAt(zone, millis);
+		int packed = EpochDays.toPacked(Math.floorDiv(localMillis, MILLIS_PER_DAY));
+		int year = EpochDays.yearOf(packed);
+		if (year < MIN_FAST_YEAR || year > MAX_FAST_YEAR) {
+			return -1;
+		}
+		char[] template = fastPattern.template;
+		System.arraycopy(template, 0, buffer, offset, template.length);
+		putDigits(buffer, offset, 4, year);
+		putDigits(buffer, offset + 5, 2, EpochDays.monthOf(packed));
+		if (fastPattern != FastPattern.MONTH) {
+			putDigits(buffer, offset + 8, 2, EpochDays.dayOf(packed));
+		}
+		if (fastPattern == FastPattern.INSTANT) {
+			int secondOfDay = (int) (Math.floorMod(localMillis, MILLIS_PER_DAY) / 1000);
+			putDigits(buffer, offset + 11, 2, secondOfDay / 3600);
+			putDigits(buffer, offset + 14, 2, secondOfDay / 60 % 60);
+			putDigits(buffer, offset + 17, 2, secondOfDay % 60);
+		}
+		return template.length;
+	}
+	
+	/**
+	 * 各桁を直接読み取って解析する。
+	 * 
+	 * <p>{@link SimpleDateFormat}は寛容な解析を行うため、桁数や値の範囲がパターン通りの文字列のみを扱う。</p>
+	 * 
+	 * @param text 時間を表す文字列
+	 * @return 地方時のエポックからの経過ミリ秒。直接読み取れない文字列の場合は{@link Long#MIN_VALUE}
+	 */
+	private long parseFast(CharSequence text) {
+		char[] template = fastPattern.template;
+		if (text.length() != template.length) {
+			return Long.MIN_VALUE;
+		}
+		for (int i = 0; i < template.length; i++) {
+			if (template[i] != '0' && text.charAt(i) != template[i]) {
+				return Long.MIN_VALUE;
+			}
+		}
+		int year = parseDigits(text, 0, 4);
+		int month = parseDigits(text, 5, 2);
+		if (year < MIN_FAST_YEAR || month < 1 || month > 12) {
+			return Long.MIN_VALUE;
+		}
+		int day = 1;
+		if (fastPattern != FastPattern.MONTH) {
+			day = parseDigits(text, 8, 2);
+			if (day < 1 || day > EpochDays.lengthOfMonth(year, month)) {
+				return Long.MIN_VALUE;
+			}
+		}
+		long localMillis = EpochDays.toEpochDay(year, month, day) * MILLIS_PER_DAY;
+		if (fastPattern == FastPattern.INSTANT) {
+			int hour = parseDigits(text, 11, 2);
+			int minute = parseDigits(text, 14, 2);
+			int second = parseDigits(text, 17, 2);
+			if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+				return Long.MIN_VALUE;
+			}
+			localMillis += (hour * 3600 + minute * 60 + second) * 1000L;
+		}
+		return localMillis;
+	}
+	
+	
+	/**
+	 * 各桁を直接読み書きするパターン。
+	 */
+	private enum FastPattern {
+		
+		/** {@code yyyy-MM-dd} */
+		DATE("yyyy-MM-dd", "0000-00-00"),
+		
+		/** {@code yyyy-MM} */
+		MONTH("yyyy-MM", "0000-00"),
+		
+		/** {@link TimePoint#ISO8601_FORMAT_UNIVERSAL} */
+		INSTANT(TimePoint.ISO8601_FORMAT_UNIVERSAL, "0000-00-00T00:00:00Z");
+		
+		static FastPattern of(String pattern) {
+			for (FastPattern fastPattern : values()) {
+				if (fastPattern.pattern.equals(pattern)) {
+					return fastPattern;
+				}
+			}
+			return null;
+		}
+		
+		
+		final String pattern;
+		
+		/** 数字を書き込む位置を{@code '0'}とした雛形 */
+		final char[] template;
+		
+		
+		FastPattern(String pattern, String template) {
+			this.pattern = pattern;
+			this.template = template.toCharArray();
+		}
+	}
+}
@@ -48,6 +48,14 @@ public class DayOfMonth implements Comparable<DayOfMonth>, Serializable {
 	 */
 	public static final int MAX_VALUE = 31;
 	
+	private static final DayOfMonth[] VALUES = new DayOfMonth[MAX_VALUE + 1];
+	
+	static {
+		for (int i = MIN_VALUE; i <= MAX_VALUE; i++) {
+			VALUES[i] = new DayOfMonth(i);
+		}
+	}
+	
 	/**
 	 * {@link DayOfMonth}の最小値
 	 * 
@@ -72,7 +80,10 @@ public class DayOfMonth implements Comparable<DayOfMonth>, Serializable {
 	 * @since 1.0
 	 */
 	public static DayOfMonth valueOf(int day) {
-		return new DayOfMonth(day);
+		if (day < MIN_VALUE || day > MAX_VALUE) {
+			return new DayOfMonth(day); // throws IllegalArgumentException
+		}
+		return VALUES[day];
 	}
 	
 	
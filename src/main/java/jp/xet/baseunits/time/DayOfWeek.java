@@ -48,6 +48,9 @@ public enum DayOfWeek {
 	/** 日曜日 */
 	SUNDAY(Calendar.SUNDAY);
 	
+	private static final DayOfWeek[] VALUES = values();
+	
+	
 	/**
 	 * {@link Calendar}に定義されている定数値から、{@link DayOfWeek}を探して返す。
 	 * 
@@ -64,6 +67,17 @@ public enum DayOfWeek {
 		return null;
 	}
 	
+	/**
+	 * エポック日（1970年1月1日からの通算日数）から、その日の曜日を返す。
+	 * 
+	 * @param epochDay エポック日
+	 * @return {@link DayOfWeek}
+	 */
+	static DayOfWeek fromEpochDay(long epochDay) {
+		// 1970年1月1日は木曜日
+		return VALUES[(int) Math.floorMod(epochDay + THURSDAY.ordinal(), 7)];
+	}
+	
 	
 	/** {@link Calendar}に定義する曜日をあらわす定数値 */
 	final int value;
@@ -32,7 +32,6 @@ import com.google.common.base.Preconditions;
  * @author daisuke
  * @since 1.0
  */
-@SuppressWarnings("serial")
 public class Duration implements Comparable<Duration>, Serializable {
 	
 	/**
@@ -225,6 +224,8 @@ public class Duration implements Comparable<Duration>, Serializable {
 	/** 長さ {@code 0} の期間 */
 	public static final Duration NONE = milliseconds(0);
 	
+	private static final long serialVersionUID = -7303662254369963658L;
+	
 	final long quantity;
 	
 	final TimeUnit unit;
@@ -263,13 +264,10 @@ public class Duration implements Comparable<Duration>, Serializable {
 		if (unit.compareTo(TimeUnit.day) < 0) {
 			return day;
 		}
-		Calendar calendar = day.asJavaCalendarUniversalZoneMidnight();
 		if (unit.equals(TimeUnit.day)) {
-			calendar.add(Calendar.DATE, (int) quantity);
-		} else {
-			addAmountToCalendar(inBaseUnits(), calendar);
+			return day.plusDays((int) quantity);
 		}
-		return CalendarDate.from(calendar);
+		return addAmountToCalendarDate(inBaseUnits(), day);
 	}
 	
 	/**
@@ -627,13 +625,10 @@ public class Duration implements Comparable<Duration>, Serializable {
 		if (unit.compareTo(TimeUnit.day) < 0) {
 			return day;
 		}
-		Calendar calendar = day.asJavaCalendarUniversalZoneMidnight();
 		if (unit.equals(TimeUnit.day)) {
-			calendar.add(Calendar.DATE, -1 * (int) quantity);
-		} else {
-			subtractAmountFromCalendar(inBaseUnits(), calendar);
+			return day.plusDays(-1 * (int) quantity);
 		}
-		return CalendarDate.from(calendar);
+		return addAmountToCalendarDate(-1 * inBaseUnits(), day);
 	}
 	
 	/**
@@ -712,6 +707,15 @@ public class Duration implements Comparable<Duration>, Serializable {
 		}
 	}
 	
+	CalendarDate addAmountToCalendarDate(long amount, CalendarDate day) {
+		if (unit.isConvertibleToMilliseconds()) {
+			return CalendarDate.fromEpochDay(day.toEpochDay() + amount / TimeUnitConversionFactor.millisecondsPerDay.value);
+		} else {
+			checkAmountValid(amount);
+			return day.plusMonths((int) amount);
+		}
+	}
+	
 	TimePoint addAmountToTimePoint(long amount, TimePoint point) {
 		if (unit.isConvertibleToMilliseconds()) {
 			return TimePoint.from(amount + point.millisecondsFromEpoch);
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+/**
+ * BASEUNITS INTERNAL API.
+ * 
+ * <p>THIS CLASS IS NOT PART OF PUBLIC API.  DO NOT USE.</p>
+ * 
+ * <p>先発グレゴリオ暦に基づき、エポック(1970年1月1日)からの通算日数（エポック日）と年月日を
+ * {@link java.util.Calendar}を用いずに整数演算のみで相互変換する。</p>
+ * 
+ * <p>年月日を一度に返す必要がある箇所では、{@link #pack(int, int, int)}で1つの{@code int}に詰めた値を用いる。</p>
+ */
+@SuppressWarnings("javadoc")
+public final class EpochDays {
+	
+	/** 400年（グレゴリオ暦の1周期）の日数 */
+	static final int DAYS_PER_CYCLE = 146097;
+	
+	/** 0000年3月1日から1970年1月1日までの日数 */
+	static final int DAYS_0000_TO_1970 = 719468;
+	
+	/** {@link #pack(int, int, int)}で表現できる最小の年 */
+	public static final int MIN_YEAR = -(1 << 22);
+	
+	/** {@link #pack(int, int, int)}で表現できる最大の年 */
+	public static final int MAX_YEAR = (1 << 22) - 1;
+	
+	private static final int[] DAYS_BEFORE_MONTH = {
+		0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334
+	};
+	
+	
+	public static int dayOfYear(int year, int month, int day) {
+		int result = DAYS_BEFORE_MONTH[month - 1] + day;
+		if (month > 2 && isLeapYear(year)) {
+			result++;
+		}
+		return result;
+	}
+	
+	public static int dayOf(int packed) {
+		return packed & 0x1F;
+	}
+	
+	public static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+	
+	public static int lengthOfMonth(int year, int month) {
+		switch (month) {
+			case 2:
+				return isLeapYear(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+	
+	public static int monthOf(int packed) {
+		return (packed >> 5) & 0xF;
+	}
+	
+	public static int pack(int year, int month, int day) {
+		return (year << 9) | (month << 5) | day;
+	}
+	
+	public static int plusMonths(int year, int month, int day, long increment) {
+		long months = year * 12L + (month - 1) + increment;
+		int newYear = (int) Math.floorDiv(months, 12);
+		int newMonth = (int) Math.floorMod(months, 12) + 1;
+		return pack(newYear, newMonth, Math.min(day, lengthOfMonth(newYear, newMonth)));
+	}
+	
+	public static long toEpochDay(int year, int month, int day) {
+		// 年の始まりを3月とみなすと、閏日が年末に来るため計算が単純になる
+		long y = month <= 2 ? year - 1L : year;
+		long era = Math.floorDiv(y, 400);
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+	}
+	
+	public static int toPacked(long epochDay) {
+		long z = epochDay + DAYS_0000_TO_1970;
+		long era = Math.floorDiv(z, DAYS_PER_CYCLE);
+		long dayOfEra = z - era * DAYS_PER_CYCLE;
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_CYCLE - 1)) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long mp = (5 * dayOfYear + 2) / 153;
+		int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+		int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+		int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+		return pack(year, month, day);
+	}
+	
+	public static int yearOf(int packed) {
+		return packed >> 9;
+	}
+	
+	private EpochDays() {
+	}
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import java.io.Serializable;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * エポックからの経過ミリ秒を限界とする期間（時間の区間）を表すクラス。
+ * 
+ * <p>{@link TimePointInterval}と同じ期間を、限界値を{@code long}、限界を含むかどうか及び限界の有無をビットとして保持する。
+ * {@link #includes(long)}及び{@link #intersects(EpochMillisInterval)}はオブジェクトを生成せずに判定し、
+ * {@link #intersect(EpochMillisInterval)}は結果がいずれかの期間と一致する場合にその期間自体を返す。
+ * 大量の期間同士の重なりを判定する場合等に、{@link #from(TimePointInterval)}で変換して利用する。</p>
+ * 
+ * <p>限界値が等しく、片方のみが限界を含む期間（{@code [5, 5)}等）は、両方の限界を含む期間として扱う。
+ * 両方の限界を含まない期間（{@code (5, 5)}等）は空の期間である。</p>
+ * 
+ * @author daisuke
+ * @since #version#
+ */
+@SuppressWarnings("serial")
+public final class EpochMillisInterval implements Serializable {
+	
+	private static final int LOWER_CLOSED = 1;
+	
+	private static final int UPPER_CLOSED = 1 << 1;
+	
+	private static final int HAS_LOWER = 1 << 2;
+	
+	private static final int HAS_UPPER = 1 << 3;
+	
+	private static final int LOWER_BITS = LOWER_CLOSED | HAS_LOWER;
+	
+	private static final int UPPER_BITS = UPPER_CLOSED | HAS_UPPER;
+	
+	/**
+	 * 空の期間
+	 * 
+	 * @since #version#
+	 */
+	public static final EpochMillisInterval EMPTY = new EpochMillisInterval(0, 0, HAS_LOWER | HAS_UPPER);
+	
+	
+	/**
+	 * 開始時刻と終了時刻より、閉期間を返す。
+	 * 
+	 * @param start 開始時刻（エポックからの経過ミリ秒）
+	 * @param end 終了時刻（エポックからの経過ミリ秒）
+	 * @return 期間
+	 * @throws IllegalArgumentException 開始時刻が終了時刻より大きい場合
+	 * @since #version#
+	 */
+	public static EpochMillisInterval closed(long start, long end) {
+		return over(start, true, end, true);
+	}
+	
+	/**
+	 * 開始時刻より、下側限界のみを持つ期間を返す。
+	 * 
+	 * <p>開始時刻は期間に含む（閉じている）。</p>
+	 * 
+	 * @param start 開始時刻（エポックからの経過ミリ秒）
+	 * @return 期間
+	 * @since #version#
+	 */
+	public static EpochMillisInterval everFrom(long start) {
+		return new EpochMillisInterval(start, Long.MAX_VALUE, LOWER_BITS | UPPER_CLOSED);
+	}
+	
+	/**
+	 * 終了時刻より、上側限界のみを持つ期間を返す。
+	 * 
+	 * <p>終了時刻は期間に含まない（開いている）。</p>
+	 * 
+	 * @param end 終了時刻（エポックからの経過ミリ秒）
+	 * @return 期間
+	 * @since #version#
+	 */
+	public static EpochMillisInterval everPreceding(long end) {
+		return new EpochMillisInterval(Long.MIN_VALUE, end, LOWER_CLOSED | HAS_UPPER);
+	}
+	
+	/**
+	 * {@link TimePointInterval}と同じ期間を返す。
+	 * 
+	 * @param interval 期間
+	 * @return 期間
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public static EpochMillisInterval from(TimePointInterval interval) {
+		Preconditions.checkNotNull(interval);
+		long lower = Long.MIN_VALUE;
+		long upper = Long.MAX_VALUE;
+		int flags = 0;
+		if (interval.hasLowerLimit()) {
+			lower = interval.start().millisecondsFromEpoch;
+			flags |= interval.includesLowerLimit() ? LOWER_BITS : HAS_LOWER;
+		} else {
+			flags |= LOWER_CLOSED;
+		}
+		if (interval.hasUpperLimit()) {
+			upper = interval.end().millisecondsFromEpoch;
+			flags |= interval.includesUpperLimit() ? UPPER_BITS : HAS_UPPER;
+		} else {
+			flags |= UPPER_CLOSED;
+		}
+		return new EpochMillisInterval(lower, upper, flags);
+	}
+	
+	/**
+	 * 開始時刻と終了時刻より、開期間を返す。
+	 * 
+	 * @param start 開始時刻（エポックからの経過ミリ秒）
+	 * @param end 終了時刻（エポックからの経過ミリ秒）
+	 * @return 期間
+	 * @throws IllegalArgumentException 開始時刻が終了時刻より大きい場合
+	 * @since #version#
+	 */
+	public static EpochMillisInterval open(long start, long end) {
+		return over(start, false, end, false);
+	}
+	
+	/**
+	 * 開始時刻と終了時刻より、期間を返す。
+	 * 
+	 * @param start 開始時刻（エポックからの経過ミリ秒）
+	 * @param startClosed 開始時刻を期間に含む（閉じた下側限界である）場合は{@code true}を指定する
+	 * @param end 終了時刻（エポックからの経過ミリ秒）
+	 * @param endClosed 終了時刻を期間に含む（閉じた上側限界である）場合は{@code true}を指定する
+	 * @return 期間
+	 * @throws IllegalArgumentException 開始時刻が終了時刻より大きい場合
+	 * @since #version#
+	 */
+	public static EpochMillisInterval over(long start, boolean startClosed, long end, boolean endClosed) {
+		Preconditions.checkArgument(start <= end, "start must be less than or equal to end: %s > %s", start, end);
+		int flags = HAS_LOWER | HAS_UPPER;
+		if (startClosed || (start == end && endClosed)) {
+			flags |= LOWER_CLOSED;
+		}
+		if (endClosed || (start == end && startClosed)) {
+			flags |= UPPER_CLOSED;
+		}
+		return new EpochMillisInterval(start, end, flags);
+	}
+	
+	/**
+	 * 開始時刻と終了時刻より、期間を返す。
+	 * 
+	 * <p>生成する期間の開始時刻は期間に含み（閉じている）、終了時刻は期間に含まない（開いている）。</p>
+	 * 
+	 * @param start 開始時刻（エポックからの経過ミリ秒）
+	 * @param end 終了時刻（エポックからの経過ミリ秒）
+	 * @return 期間
+	 * @throws IllegalArgumentException 開始時刻が終了時刻より大きい場合
+	 * @since #version#
+	 */
+	public static EpochMillisInterval over(long start, long end) {
+		return over(start, true, end, false);
+	}
+	
+	
+	/** 下側限界値。下側限界がない場合は{@link Long#MIN_VALUE} */
+	private final long lower;
+	
+	/** 上側限界値。上側限界がない場合は{@link Long#MAX_VALUE} */
+	private final long upper;
+	
+	/**
+	 * 限界を含むかどうか及び限界の有無を表すビット。
+	 * 
+	 * <p>限界がない場合は、比較を単純にするため、{@link Long#MIN_VALUE}・{@link Long#MAX_VALUE}を含むものとして扱う。</p>
+	 */
+	private final int flags;
+	
+	
+	private EpochMillisInterval(long lower, long upper, int flags) {
+		this.lower = lower;
+		this.upper = upper;
+		this.flags = flags;
+	}
+	
+	/**
+	 * この期間と同じ{@link TimePointInterval}を返す。
+	 * 
+	 * @return 期間
+	 * @since #version#
+	 */
+	public TimePointInterval asTimePointInterval() {
+		return new TimePointInterval(hasLowerLimit() ? TimePoint.from(lower) : null, includesLowerLimit(),
+				hasUpperLimit() ? TimePoint.from(upper) : null, includesUpperLimit());
+	}
+	
+	/**
+	 * この期間が、指定した期間を完全に内包するかどうかを検証する。
+	 * 
+	 * @param other 期間
+	 * @return 完全に内包する場合は{@code true}、そうでない場合は{@code false}
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public boolean covers(EpochMillisInterval other) {
+		Preconditions.checkNotNull(other);
+		boolean lowerPass = lower < other.lower
+				|| (lower == other.lower && ((flags & LOWER_CLOSED) != 0 || (other.flags & LOWER_CLOSED) == 0));
+		boolean upperPass = upper > other.upper
+				|| (upper == other.upper && ((flags & UPPER_CLOSED) != 0 || (other.flags & UPPER_CLOSED) == 0));
+		return lowerPass && upperPass;
+	}
+	
+	/**
+	 * 終了時刻を返す。
+	 * 
+	 * @return 終了時刻（エポックからの経過ミリ秒）
+	 * @throws IllegalStateException 上側限界がない場合
+	 * @since #version#
+	 */
+	public long end() {
+		Preconditions.checkState(hasUpperLimit(), "This interval has no upper limit.");
+		return upper;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof EpochMillisInterval == false) {
+			return false;
+		}
+		EpochMillisInterval other = (EpochMillisInterval) obj;
+		if (isEmpty() || other.isEmpty()) {
+			return isEmpty() && other.isEmpty();
+		}
+		return lower == other.lower && upper == other.upper && flags == other.flags;
+	}
+	
+	@Override
+	public int hashCode() {
+		if (isEmpty()) {
+			return 0;
+		}
+		return (Long.hashCode(lower) * 31 + Long.hashCode(upper)) * 31 + flags;
+	}
+	
+	/**
+	 * 下側限界があるかどうかを検証する。
+	 * 
+	 * @return 下側限界がある場合は{@code true}、そうでない場合は{@code false}
+	 * @since #version#
+	 */
+	public boolean hasLowerLimit() {
+		return (flags & HAS_LOWER) != 0;
+	}
+	
+	/**
+	 * 上側限界があるかどうかを検証する。
+	 * 
+	 * @return 上側限界がある場合は{@code true}、そうでない場合は{@code false}
+	 * @since #version#
+	 */
+	public boolean hasUpperLimit() {
+		return (flags & HAS_UPPER) != 0;
+	}
+	
+	/**
+	 * 指定した時刻が、この期間に含まれるかどうかを検証する。
+	 * 
+	 * @param millis 時刻（エポックからの経過ミリ秒）
+	 * @return 含まれる場合は{@code true}、そうでない場合は{@code false}
+	 * @since #version#
+	 */
+	public boolean includes(long millis) {
+		return (millis > lower || (millis == lower && (flags & LOWER_CLOSED) != 0))
+				&& (millis < upper || (millis == upper && (flags & UPPER_CLOSED) != 0));
+	}
+	
+	/**
+	 * 下側限界が閉じているかどうかを検証する。
+	 * 
+	 * @return 閉じている場合は{@code true}、開いている場合または下側限界がない場合は{@code false}
+	 * @since #version#
+	 */
+	public boolean includesLowerLimit() {
+		return (flags & LOWER_BITS) == LOWER_BITS;
+	}
+	
+	/**
+	 * 上側限界が閉じているかどうかを検証する。
+	 * 
+	 * @return 閉じている場合は{@code true}、開いている場合または上側限界がない場合は{@code false}
+	 * @since #version#
+	 */
+	public boolean includesUpperLimit() {
+		return (flags & UPPER_BITS) == UPPER_BITS;
+	}
+	
+	/**
+	 * この期間と指定した期間の共通部分を返す。
+	 * 
+	 * <p>共通部分が存在しない場合（{@link #intersects(EpochMillisInterval)}が{@code false}の場合）は{@link #EMPTY}を返す。
+	 * 共通部分がいずれかの期間と一致する場合は、その期間自体を返す。</p>
+	 * 
+	 * @param other 期間
+	 * @return 共通部分
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public EpochMillisInterval intersect(EpochMillisInterval other) {
+		if (intersects(other) == false) {
+			return EMPTY;
+		}
+		// 値が大きいほど、同じ値であれば開いているほど、下側限界は狭い
+		boolean otherLower = other.lower > lower
+				|| (other.lower == lower && (other.flags & LOWER_CLOSED) < (flags & LOWER_CLOSED));
+		boolean otherUpper = other.upper < upper
+				|| (other.upper == upper && (other.flags & UPPER_CLOSED) < (flags & UPPER_CLOSED));
+		if (otherLower == false && otherUpper == false) {
+			return this;
+		}
+		if (otherLower && otherUpper) {
+			return other;
+		}
+		EpochMillisInterval lowerSource = otherLower ? other : this;
+		EpochMillisInterval upperSource = otherUpper ? other : this;
+		return new EpochMillisInterval(lowerSource.lower, upperSource.upper,
+				(lowerSource.flags & LOWER_BITS) | (upperSource.flags & UPPER_BITS));
+	}
+	
+	/**
+	 * この期間と指定した期間の間に、共通部分が存在するかどうかを検証する。
+	 * 
+	 * @param other 期間
+	 * @return 共通部分が存在する場合は{@code true}、そうでない場合は{@code false}
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public boolean intersects(EpochMillisInterval other) {
+		Preconditions.checkNotNull(other);
+		long greaterLower = Math.max(lower, other.lower);
+		long lesserUpper = Math.min(upper, other.upper);
+		if (greaterLower != lesserUpper) {
+			return greaterLower < lesserUpper;
+		}
+		// 共通部分となり得るのが1点のみの場合は、その点を両方の期間が含むかどうか
+		return includes(greaterLower) && other.includes(greaterLower);
+	}
+	
+	/**
+	 * この期間が空であるかどうかを検証する。
+	 * 
+	 * @return 空である場合は{@code true}、そうでない場合は{@code false}
+	 * @since #version#
+	 */
+	public boolean isEmpty() {
+		return lower == upper && (flags & (LOWER_CLOSED | UPPER_CLOSED)) == 0;
+	}
+	
+	/**
+	 * 開始時刻を返す。
+	 * 
+	 * @return 開始時刻（エポックからの経過ミリ秒）
+	 * @throws IllegalStateException 下側限界がない場合
+	 * @since #version#
+	 */
+	public long start() {
+		Preconditions.checkState(hasLowerLimit(), "This interval has no lower limit.");
+		return lower;
+	}
+	
+	@Override
+	public String toString() {
+		return asTimePointInterval().toString();
+	}
+}
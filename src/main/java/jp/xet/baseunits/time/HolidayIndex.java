@@ -0,0 +1,248 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jp.xet.baseunits.util.spec.Specification;
+
+/**
+ * 休日仕様を年毎に評価し、休日と営業日をビットマップとして保持する索引。
+ * 
+ * <p>各年について、1月1日からの通し番号をビット位置とする休日・営業日のビットマップと、
+ * 各ワードより前にある営業日の数（累積ポピュレーションカウント）を保持する。
+ * これにより、営業日・休日の判定、期間内の営業日数、及びN営業日後（前）の暦日は、
+ * 休日仕様を暦日毎に評価することなく、ビット演算で求められる。</p>
+ * 
+ * <p>各年の索引は初めて必要になった時に作成し、以後再利用する。このクラスはスレッドセーフである。</p>
+ */
+final class HolidayIndex {
+	
+	/** 1970年1月5日（月曜日）のエポック日 */
+	private static final long MONDAY = 4;
+	
+	
+	/**
+	 * 指定したエポック日が平日（月曜日〜金曜日）であるかどうかを返す。
+	 * 
+	 * @param epochDay エポック日
+	 * @return 平日である場合は{@code true}、そうでない場合は{@code false}
+	 */
+	static boolean isWeekday(long epochDay) {
+		return Math.floorMod(epochDay - MONDAY, 7) < 5;
+	}
+	
+	private static int yearOf(long epochDay) {
+		return EpochDays.yearOf(EpochDays.toPacked(epochDay));
+	}
+	
+	
+	/** 休日仕様 */
+	final Specification<CalendarDate> holidaySpecs;
+	
+	private final ConcurrentMap<Integer, Year> years = new ConcurrentHashMap<>();
+	
+	/** 直近に参照した年の索引 */
+	private volatile Year lastYear;
+	
+	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * @param holidaySpecs 休日仕様
+	 */
+	HolidayIndex(Specification<CalendarDate> holidaySpecs) {
+		this.holidaySpecs = holidaySpecs;
+	}
+	
+	/**
+	 * 指定した期間に含まれる営業日の数を返す。
+	 * 
+	 * @param start 期間の開始エポック日（期間に含む）
+	 * @param end 期間の終了エポック日（期間に含む）
+	 * @return 営業日の数
+	 */
+	long countBusinessDays(long start, long end) {
+		long count = 0;
+		Year year = yearContaining(start);
+		while (year.lastEpochDay < end) {
+			count += year.count() - year.rank(start);
+			year = year(year.year + 1);
+			start = year.firstEpochDay;
+		}
+		return count + year.rank(end + 1) - year.rank(start);
+	}
+	
+	/**
+	 * 指定したエポック日が営業日であるかどうかを返す。
+	 * 
+	 * @param epochDay エポック日
+	 * @return 営業日である場合は{@code true}、そうでない場合は{@code false}
+	 */
+	boolean isBusinessDay(long epochDay) {
+		Year year = yearContaining(epochDay);
+		return Year.test(year.businessDays, (int) (epochDay - year.firstEpochDay));
+	}
+	
+	/**
+	 * 指定したエポック日が休日であるかどうかを返す。
+	 * 
+	 * @param epochDay エポック日
+	 * @return 休日である場合は{@code true}、そうでない場合は{@code false}
+	 */
+	boolean isHoliday(long epochDay) {
+		Year year = yearContaining(epochDay);
+		return Year.test(year.holidays, (int) (epochDay - year.firstEpochDay));
+	}
+	
+	/**
+	 * 指定したエポック日以前の営業日のうち、{@code numberOfDays + 1}番目に遅い営業日を返す。
+	 * 
+	 * @param epochDay 基準エポック日
+	 * @param numberOfDays 営業日数
+	 * @return 営業日のエポック日
+	 */
+	long minusBusinessDays(long epochDay, int numberOfDays) {
+		Year year = yearContaining(epochDay);
+		long rank = year.rank(epochDay + 1) - 1L - numberOfDays;
+		while (rank < 0) {
+			year = year(year.year - 1);
+			rank += year.count();
+		}
+		return year.select((int) rank);
+	}
+	
+	/**
+	 * 指定したエポック日以降の営業日のうち、{@code numberOfDays + 1}番目に早い営業日を返す。
+	 * 
+	 * @param epochDay 基準エポック日
+	 * @param numberOfDays 営業日数
+	 * @return 営業日のエポック日
+	 */
+	long plusBusinessDays(long epochDay, int numberOfDays) {
+		Year year = yearContaining(epochDay);
+		long rank = year.rank(epochDay) + (long) numberOfDays;
+		while (rank >= year.count()) {
+			rank -= year.count();
+			year = year(year.year + 1);
+		}
+		return year.select((int) rank);
+	}
+	
+	private Year year(int year) {
+		Year result = years.get(year);
+		if (result == null) {
+			result = years.computeIfAbsent(year, y -> new Year(y, holidaySpecs));
+		}
+		lastYear = result;
+		return result;
+	}
+	
+	private Year yearContaining(long epochDay) {
+		Year result = lastYear;
+		if (result != null && result.firstEpochDay <= epochDay && epochDay <= result.lastEpochDay) {
+			return result;
+		}
+		return year(yearOf(epochDay));
+	}
+	
+	
+	/**
+	 * 1年分の休日・営業日のビットマップ。
+	 */
+	private static final class Year {
+		
+		private static boolean test(long[] bits, int index) {
+			return (bits[index >>> 6] & 1L << index) != 0;
+		}
+		
+		
+		final int year;
+		
+		final long firstEpochDay;
+		
+		final long lastEpochDay;
+		
+		/** 休日のビットマップ（週末に当たる休日を含む） */
+		final long[] holidays;
+		
+		/** 営業日のビットマップ */
+		final long[] businessDays;
+		
+		/** 各ワードより前にある営業日の数。最後の要素はその年の営業日の総数 */
+		final int[] ranks;
+		
+		
+		Year(int year, Specification<CalendarDate> holidaySpecs) {
+			this.year = year;
+			firstEpochDay = EpochDays.toEpochDay(year, 1, 1);
+			lastEpochDay = EpochDays.toEpochDay(year, 12, 31);
+			int length = (int) (lastEpochDay - firstEpochDay + 1);
+			holidays = new long[(length + 63) >>> 6];
+			businessDays = new long[holidays.length];
+			for (int i = 0; i < length; i++) {
+				long epochDay = firstEpochDay + i;
+				if (holidaySpecs.isSatisfiedBy(CalendarDate.fromEpochDay(epochDay))) {
+					holidays[i >>> 6] |= 1L << i;
+				} else if (isWeekday(epochDay)) {
+					businessDays[i >>> 6] |= 1L << i;
+				}
+			}
+			ranks = new int[businessDays.length + 1];
+			for (int i = 0; i < businessDays.length; i++) {
+				ranks[i + 1] = ranks[i] + Long.bitCount(businessDays[i]);
+			}
+		}
+	
+		int count() {
+			return ranks[businessDays.length];
+		}
+		
+		/**
+		 * この年の1月1日から、指定したエポック日の前日までに含まれる営業日の数を返す。
+		 * 
+		 * @param epochDay この年、または翌年1月1日のエポック日
+		 * @return 営業日の数
+		 */
+		int rank(long epochDay) {
+			int index = (int) (epochDay - firstEpochDay);
+			int word = index >>> 6;
+			if (word == businessDays.length) {
+				return count();
+			}
+			return ranks[word] + Long.bitCount(businessDays[word] & ((1L << index) - 1));
+		}
+		
+		/**
+		 * この年の{@code rank + 1}番目の営業日を返す。
+		 * 
+		 * @param rank 0以上{@link #count()}未満の値
+		 * @return 営業日のエポック日
+		 */
+		long select(int rank) {
+			int word = 0;
+			while (ranks[word + 1] <= rank) {
+				word++;
+			}
+			long bits = businessDays[word];
+			for (int i = ranks[word]; i < rank; i++) {
+				bits &= bits - 1;
+			}
+			return firstEpochDay + (word << 6) + Long.numberOfTrailingZeros(bits);
+		}
+	}
+}
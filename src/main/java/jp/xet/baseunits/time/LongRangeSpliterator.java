@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * {@code long}の連続した範囲の各値を要素に変換しながら走査する{@link Spliterator}。
+ * 
+ * <p>範囲を二等分して分割するため、{@link #SIZED}及び{@link #SUBSIZED}の特性を持つ。</p>
+ * 
+ * @param <T> 要素の型
+ */
+final class LongRangeSpliterator<T> implements Spliterator<T> {
+	
+	private final LongFunction<T> mapper;
+	
+	/** 次に走査する値 */
+	private long from;
+	
+	/** 走査する範囲の上限（この値を含まない） */
+	private final long to;
+	
+	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * @param from 範囲の下限（この値を含む）
+	 * @param to 範囲の上限（この値を含まない）
+	 * @param mapper 値を要素に変換する関数
+	 * @throws NullPointerException 引数{@code mapper}に{@code null}を与えた場合
+	 */
+	LongRangeSpliterator(long from, long to, LongFunction<T> mapper) {
+		Preconditions.checkNotNull(mapper);
+		this.mapper = mapper;
+		this.from = from;
+		this.to = Math.max(from, to);
+	}
+	
+	@Override
+	public int characteristics() {
+		return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+	
+	@Override
+	public long estimateSize() {
+		return to - from;
+	}
+	
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		Preconditions.checkNotNull(action);
+		long end = to;
+		for (long value = from; value < end; value++) {
+			action.accept(mapper.apply(value));
+		}
+		from = end;
+	}
+	
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		Preconditions.checkNotNull(action);
+		if (from >= to) {
+			return false;
+		}
+		action.accept(mapper.apply(from++));
+		return true;
+	}
+	
+	@Override
+	public Spliterator<T> trySplit() {
+		long mid = from + (to - from) / 2;
+		if (mid == from) {
+			return null;
+		}
+		Spliterator<T> prefix = new LongRangeSpliterator<T>(from, mid, mapper);
+		from = mid;
+		return prefix;
+	}
+}
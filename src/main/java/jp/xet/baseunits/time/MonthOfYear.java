@@ -16,7 +16,6 @@
 package jp.xet.baseunits.time;
 
 import java.util.Calendar;
-import java.util.GregorianCalendar;
 
 /**
  * 1年の中の特定の「月」を表す列挙型。
@@ -38,8 +37,7 @@ public enum MonthOfYear {
 		
 		@Override
 		public DayOfMonth getLastDayOfThisMonth(int year) {
-			GregorianCalendar calendar = new GregorianCalendar(year, 2, 1);
-			return calendar.isLeapYear(year) ? DayOfMonth.valueOf(29) : DayOfMonth.valueOf(28); // CHECKSTYLE IGNORE THIS LINE
+			return EpochDays.isLeapYear(year) ? DayOfMonth.valueOf(29) : DayOfMonth.valueOf(28); // CHECKSTYLE IGNORE THIS LINE
 		}
 	},
 	
@@ -73,6 +71,9 @@ public enum MonthOfYear {
 	/** December */
 	DEC(12, DayOfMonth.valueOf(31), Calendar.DECEMBER);
 	
+	private static final MonthOfYear[] VALUES = values();
+	
+	
 	/**
 	 * {@link Calendar}に定義する月をあらわす定数値から、{@link MonthOfYear}を探して返す。
 	 * 
@@ -96,12 +97,10 @@ public enum MonthOfYear {
 	 * @since 1.0
 	 */
 	public static MonthOfYear valueOf(int value) {
-		for (MonthOfYear monthOfYear : values()) {
-			if (monthOfYear.value == value) {
-				return monthOfYear;
-			}
+		if (value < 1 || value > VALUES.length) {
+			return null;
 		}
-		return null;
+		return VALUES[value - 1];
 	}
 	
 	
@@ -30,7 +30,6 @@ import com.google.common.base.Preconditions;
  * @author daisuke
  * @since 1.0
  */
-@SuppressWarnings("serial")
 public final class TimeOfDay implements Comparable<TimeOfDay>, Serializable {
 	
 	/** 
@@ -178,6 +177,16 @@ public final class TimeOfDay implements Comparable<TimeOfDay>, Serializable {
 		return TimeOfDay.from((int) h, (int) m, (int) s, (int) ms);
 	}
 	
+	// 地方時のミリ秒から時刻を切り出す。Calendarを経由しないため、ここでは値の範囲検証は行わない。
+	static TimeOfDay fromLocalMillis(long localMillis) {
+		int millisOfDay = (int) Math.floorMod(localMillis, (long) TimeUnitConversionFactor.millisecondsPerDay.value);
+		int hour = millisOfDay / TimeUnitConversionFactor.millisecondsPerHour.value;
+		int minute = millisOfDay / TimeUnitConversionFactor.millisecondsPerMinute.value % 60;
+		int second = millisOfDay / TimeUnitConversionFactor.millisecondsPerSecond.value % 60;
+		int millisecond = millisOfDay % TimeUnitConversionFactor.millisecondsPerSecond.value;
+		return from(hour, minute, second, millisecond);
+	}
+	
 	/**
 	 * {@link TimePointOfDay}を{@link TimeOfDay}に変換して返す。
 	 * 
@@ -211,6 +220,8 @@ public final class TimeOfDay implements Comparable<TimeOfDay>, Serializable {
 	}
 	
 	
+	private static final long serialVersionUID = -1748654447845754704L;
+	
 	/** 時 */
 	final HourOfDay hour;
 	
@@ -81,6 +81,15 @@ public class TimePoint implements Comparable<TimePoint>, Serializable {
 	public static TimePoint at(int year, int month, int date, int hour, int minute, int second, int millisecond, // CHECKSTYLE IGNORE THIS LINE
 			TimeZone zone) {
 		Preconditions.checkNotNull(zone);
+		if (year > 1900 && year < 2037 && month >= 1 && month <= 12 && date >= 1
+				&& date <= EpochDays.lengthOfMonth(year, month) && hour >= 0 && hour < 24 && minute >= 0 && minute < 60
+				&& second >= 0 && second < 60 && millisecond >= 0 && millisecond < 1000) {
+			long localMillis = EpochDays.toEpochDay(year, month, date) * TimeUnitConversionFactor.millisecondsPerDay.value
+					+ hour * (long) TimeUnitConversionFactor.millisecondsPerHour.value
+					+ minute * TimeUnitConversionFactor.millisecondsPerMinute.value
+					+ second * TimeUnitConversionFactor.millisecondsPerSecond.value + millisecond;
+			return from(ZoneOffsetTable.toEpochMillis(zone, localMillis));
+		}
 		Calendar calendar = CalendarUtil.newCalendar(zone);
 		calendar.set(Calendar.YEAR, year);
 		calendar.set(Calendar.MONTH, month - 1);
@@ -209,7 +218,8 @@ public class TimePoint implements Comparable<TimePoint>, Serializable {
 	public static TimePoint atMidnight(CalendarDate calendarDate, TimeZone zone) {
 		Preconditions.checkNotNull(calendarDate);
 		Preconditions.checkNotNull(zone);
-		return at(calendarDate.asCalendarMonth(), calendarDate.getDayOfMonth(), 0, 0, 0, 0, zone);
+		return at(calendarDate.getYear(), calendarDate.getMonthOfYear().value, calendarDate.getDayOfMonth().value,
+				0, 0, 0, 0, zone);
 	}
 	
 	/**
@@ -388,9 +398,7 @@ public class TimePoint implements Comparable<TimePoint>, Serializable {
 		Preconditions.checkNotNull(dateTimeString);
 		Preconditions.checkNotNull(pattern);
 		Preconditions.checkNotNull(zone);
-		SimpleDateFormat format = CalendarUtil.newSimpleDateFormat(pattern, zone);
-		Date date = format.parse(dateTimeString);
-		return from(date);
+		return CompiledDateFormat.of(pattern, zone).parse(dateTimeString);
 	}
 	
 	/**
@@ -498,9 +506,8 @@ public class TimePoint implements Comparable<TimePoint>, Serializable {
 	 */
 	public TimeOfDay asTimeOfDay(TimeZone zone) {
 		Preconditions.checkNotNull(zone);
-		Calendar calendar = asJavaCalendar(zone);
-		return TimeOfDay.from(calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE),
-				calendar.get(Calendar.SECOND), calendar.get(Calendar.MILLISECOND));
+		return TimeOfDay.fromLocalMillis(millisecondsFromEpoch
+				+ ZoneOffsetTable.offsetAt(zone, millisecondsFromEpoch));
 	}
 	
 	/**
@@ -524,7 +531,7 @@ public class TimePoint implements Comparable<TimePoint>, Serializable {
 	 */
 	public TimePoint backToMidnight(TimeZone zone) {
 		Preconditions.checkNotNull(zone);
-		return asCalendarDate(zone).asTimePointInterval(zone).start();
+		return atMidnight(asCalendarDate(zone), zone);
 	}
 	
 	/**
@@ -909,8 +916,7 @@ public class TimePoint implements Comparable<TimePoint>, Serializable {
 		Preconditions.checkNotNull(pattern);
 		Preconditions.checkNotNull(locale);
 		Preconditions.checkNotNull(zone);
-		SimpleDateFormat df = CalendarUtil.newSimpleDateFormat(pattern, locale, zone);
-		return df.format(asJavaUtilDate());
+		return CompiledDateFormat.of(pattern, locale, zone).format(this);
 	}
 	
 	/**
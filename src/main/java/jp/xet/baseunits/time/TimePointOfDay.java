@@ -252,9 +252,7 @@ public class TimePointOfDay implements Comparable<TimePointOfDay>, Serializable
 		Preconditions.checkNotNull(timeString);
 		Preconditions.checkNotNull(pattern);
 		Preconditions.checkNotNull(zone);
-		SimpleDateFormat format = CalendarUtil.newSimpleDateFormat(pattern, zone);
-		Date date = format.parse(timeString);
-		return from(date);
+		return from(CompiledDateFormat.of(pattern, zone).parse(timeString).toEpochMillisec());
 	}
 	
 	/**
@@ -318,9 +316,8 @@ public class TimePointOfDay implements Comparable<TimePointOfDay>, Serializable
 	 */
 	public TimeOfDay asTimeOfDay(TimeZone zone) {
 		Preconditions.checkNotNull(zone);
-		Calendar calendar = asJavaCalendar(zone);
-		return TimeOfDay.from(calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE),
-				calendar.get(Calendar.SECOND), calendar.get(Calendar.MILLISECOND));
+		return TimeOfDay.fromLocalMillis(millisecondsFromUTCMidnight
+				+ ZoneOffsetTable.offsetAt(zone, millisecondsFromUTCMidnight));
 	}
 	
 	/**
@@ -459,8 +456,7 @@ public class TimePointOfDay implements Comparable<TimePointOfDay>, Serializable
 	public String toString(String pattern, TimeZone zone) {
 		Preconditions.checkNotNull(pattern);
 		Preconditions.checkNotNull(zone);
-		SimpleDateFormat df = CalendarUtil.newSimpleDateFormat(pattern, zone);
-		return df.format(asJavaUtilDate());
+		return CompiledDateFormat.of(pattern, zone).format(TimePoint.from(millisecondsFromUTCMidnight));
 	}
 	
 	/**
@@ -167,7 +167,7 @@ public class TimeRate {
 	public BigDecimal over(Duration duration, int scale, RoundingMode roundingMode) {
 		Preconditions.checkNotNull(duration);
 		Preconditions.checkNotNull(roundingMode);
-		return duration.dividedBy(unit).times(quantity).decimalValue(scale, roundingMode);
+		return duration.dividedBy(unit).times(quantity, scale, roundingMode);
 	}
 	
 	/**
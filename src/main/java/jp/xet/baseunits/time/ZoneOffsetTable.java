@@ -0,0 +1,180 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * BASEUNITS INTERNAL API.
+ * 
+ * <p>THIS CLASS IS NOT PART OF PUBLIC API.  DO NOT USE.</p>
+ * 
+ * <p>タイムゾーン毎に、オフセットが変化する瞬間（遷移）とその後のオフセットを配列として保持し、
+ * UTCの瞬間と地方時の相互変換を{@link Calendar}を用いずに行う。</p>
+ * 
+ * <p>表は{@link #LOWER_BOUND}から{@link #UPPER_BOUND}までの範囲について、
+ * JDK標準の{@link TimeZone}実装に対してのみ作成する。範囲外やその他の実装のタイムゾーンについては
+ * {@link TimeZone#getOffset(long)}または{@link Calendar}による計算に委ねるため、結果は常に{@link Calendar}と一致する。</p>
+ */
+@SuppressWarnings("javadoc")
+public final class ZoneOffsetTable {
+	
+	/** 表を作成する範囲の下限（1900-01-01T00:00:00Z） */
+	public static final long LOWER_BOUND = -2208988800000L;
+	
+	/** 表を作成する範囲の上限（2037-01-01T00:00:00Z、この瞬間を含まない） */
+	public static final long UPPER_BOUND = 2114380800000L;
+	
+	/** オフセットの絶対値の上限（1日） */
+	private static final long MAX_OFFSET = TimeUnitConversionFactor.millisecondsPerDay.value;
+	
+	private static final Class<?> JDK_ZONE_CLASS = TimeZone.getTimeZone("UTC").getClass();
+	
+	private static final ZoneOffsetTable NONE = new ZoneOffsetTable(0, new long[0], new int[0]);
+	
+	private static final ConcurrentMap<String, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+	
+	
+	/**
+	 * 指定した瞬間における、指定したタイムゾーンのUTCからのオフセットを返す。
+	 * 
+	 * @param zone タイムゾーン
+	 * @param millis エポックからの経過ミリ秒
+	 * @return オフセット（ミリ秒）
+	 */
+	public static int offsetAt(TimeZone zone, long millis) {
+		if (millis >= LOWER_BOUND && millis < UPPER_BOUND) {
+			ZoneOffsetTable table = lookup(zone);
+			if (table != NONE) {
+				return table.offsets[indexOf(table.transitions, millis)];
+			}
+		}
+		return zone.getOffset(millis);
+	}
+	
+	/**
+	 * 指定したタイムゾーンにおける地方時を、エポックからの経過ミリ秒に変換する。
+	 * 
+	 * <p>夏時間の開始等により存在しない地方時、及び終了等により2回現れる地方時は、
+	 * {@link java.util.GregorianCalendar}と同様に、いずれも遷移後のオフセットで解釈できる場合はそれを用いる。</p>
+	 * 
+	 * @param zone タイムゾーン
+	 * @param localMillis 地方時のエポック(1970-01-01T00:00)からの経過ミリ秒
+	 * @return エポックからの経過ミリ秒
+	 */
+	public static long toEpochMillis(TimeZone zone, long localMillis) {
+		if (localMillis - MAX_OFFSET >= LOWER_BOUND && localMillis + MAX_OFFSET < UPPER_BOUND) {
+			ZoneOffsetTable table = lookup(zone);
+			if (table != NONE) {
+				return localMillis - table.offsets[indexOf(table.localTransitions, localMillis)];
+			}
+		}
+		Calendar local = CalendarUtil.newCalendar();
+		local.setTimeInMillis(localMillis);
+		Calendar calendar = CalendarUtil.newCalendar(zone);
+		calendar.set(Calendar.ERA, local.get(Calendar.ERA));
+		calendar.set(local.get(Calendar.YEAR), local.get(Calendar.MONTH), local.get(Calendar.DATE),
+				local.get(Calendar.HOUR_OF_DAY), local.get(Calendar.MINUTE), local.get(Calendar.SECOND));
+		calendar.set(Calendar.MILLISECOND, local.get(Calendar.MILLISECOND));
+		return calendar.getTimeInMillis();
+	}
+	
+	private static int indexOf(long[] keys, long value) {
+		int index = Arrays.binarySearch(keys, value);
+		return index >= 0 ? index : -index - 2;
+	}
+	
+	private static ZoneOffsetTable lookup(TimeZone zone) {
+		if (zone.getClass() != JDK_ZONE_CLASS) {
+			return NONE;
+		}
+		ZoneOffsetTable table = TABLES.get(zone.getID());
+		if (table == null) {
+			table = TABLES.computeIfAbsent(zone.getID(), id -> create(zone));
+		}
+		if (table.rawOffset != zone.getRawOffset()) {
+			// setRawOffsetで変更されたインスタンス
+			return NONE;
+		}
+		return table;
+	}
+	
+	private static ZoneOffsetTable create(TimeZone zone) {
+		ZoneRules rules;
+		try {
+			rules = zone.toZoneId().getRules();
+		} catch (DateTimeException e) {
+			return NONE;
+		}
+		long[] transitions = new long[16];
+		int[] offsets = new int[16];
+		int size = 0;
+		long millis = LOWER_BOUND;
+		int offset = zone.getOffset(millis);
+		while (true) {
+			if (size == 0 || offsets[size - 1] != offset) {
+				if (size == transitions.length) {
+					transitions = Arrays.copyOf(transitions, size * 2);
+					offsets = Arrays.copyOf(offsets, size * 2);
+				}
+				transitions[size] = millis;
+				offsets[size] = offset;
+				size++;
+			}
+			ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(millis));
+			if (transition == null || transition.toEpochSecond() * 1000 >= UPPER_BOUND) {
+				break;
+			}
+			millis = transition.toEpochSecond() * 1000;
+			offset = zone.getOffset(millis);
+		}
+		return new ZoneOffsetTable(zone.getRawOffset(), Arrays.copyOf(transitions, size), Arrays.copyOf(offsets, size));
+	}
+	
+	
+	private final int rawOffset;
+	
+	/** 各オフセットが適用され始める瞬間（エポックからの経過ミリ秒、昇順） */
+	private final long[] transitions;
+	
+	/** {@link #transitions}の各瞬間を、その瞬間から適用されるオフセットで表した地方時 */
+	private final long[] localTransitions;
+	
+	/** {@link #transitions}の各瞬間から適用されるオフセット */
+	private final int[] offsets;
+	
+	
+	private ZoneOffsetTable(int rawOffset, long[] transitions, int[] offsets) {
+		this.rawOffset = rawOffset;
+		this.transitions = transitions;
+		this.offsets = offsets;
+		localTransitions = new long[transitions.length];
+		for (int i = 0; i < transitions.length; i++) {
+			localTransitions[i] = transitions[i] + offsets[i];
+		}
+		if (localTransitions.length > 0) {
+			localTransitions[0] = Long.MIN_VALUE;
+		}
+	}
+}
@@ -16,11 +16,10 @@
 package jp.xet.baseunits.time.formatter;
 
 import java.io.Serializable;
-import java.text.SimpleDateFormat;
 import java.util.Locale;
 import java.util.TimeZone;
 
-import jp.xet.baseunits.time.CalendarUtil;
+import jp.xet.baseunits.time.CompiledDateFormat;
 import jp.xet.baseunits.time.TimePoint;
 
 import com.google.common.base.Preconditions;
@@ -59,7 +58,6 @@ public class StandardTimePointFormatter extends AbstractTimePointFormatter imple
 		Preconditions.checkNotNull(locale);
 		Preconditions.checkNotNull(timeZone);
 		
-		SimpleDateFormat df = CalendarUtil.newSimpleDateFormat(format, locale, timeZone);
-		return df.format(target.asJavaUtilDate());
+		return CompiledDateFormat.of(format, locale, timeZone).format(target);
 	}
 }
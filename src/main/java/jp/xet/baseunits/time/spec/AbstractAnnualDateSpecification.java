@@ -15,12 +15,7 @@
  */
 package jp.xet.baseunits.time.spec;
 
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-
 import jp.xet.baseunits.time.CalendarDate;
-import jp.xet.baseunits.time.CalendarInterval;
-import jp.xet.baseunits.util.ImmutableIterator;
 
 import com.google.common.base.Preconditions;
 
@@ -33,49 +28,47 @@ import com.google.common.base.Preconditions;
 public abstract class AbstractAnnualDateSpecification extends AbstractDateSpecification implements
 		AnnualDateSpecification {
 	
+	/** グレゴリオ暦の1周期の年数。これを超えて探索しても、仕様を満たす暦日は新たに見つからない。 */
+	private static final int YEARS_PER_CYCLE = 400;
+	
+	
 	@Override
-	public CalendarDate firstOccurrenceIn(CalendarInterval interval) {
-		Preconditions.checkNotNull(interval);
-		Preconditions.checkArgument(interval.hasLowerLimit());
-		CalendarDate firstTry = ofYear(interval.start().asCalendarMonth().getYear());
-		if (interval.includes(firstTry)) {
-			return firstTry;
-		}
-		CalendarDate secondTry = ofYear(interval.start().asCalendarMonth().getYear() + 1);
-		if (interval.includes(secondTry)) {
-			return secondTry;
+	public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		int lastYear = limit == null ? date.getYear() + YEARS_PER_CYCLE : limit.getYear();
+		for (int year = date.getYear(); year <= lastYear; year++) {
+			CalendarDate next = occurrenceOf(year);
+			if (next != null && next.isBefore(date) == false) {
+				return exceeds(next, limit) ? null : next;
+			}
 		}
 		return null;
 	}
 	
 	@Override
-	public Iterator<CalendarDate> iterateOver(final CalendarInterval interval) {
-		Preconditions.checkNotNull(interval);
-		return new ImmutableIterator<CalendarDate>() {
-			
-			CalendarDate next = firstOccurrenceIn(interval);
-			
-			int year = next.asCalendarMonth().getYear();
-			
-			
-			@Override
-			public boolean hasNext() {
-				return next != null;
-			}
-			
-			@Override
-			public CalendarDate next() {
-				if (hasNext() == false) {
-					throw new NoSuchElementException();
-				}
-				CalendarDate current = next;
-				year += 1;
-				next = AbstractAnnualDateSpecification.this.ofYear(year);
-				if (interval.includes(next) == false) {
-					next = null;
-				}
-				return current;
+	public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		int firstYear = limit == null ? date.getYear() - YEARS_PER_CYCLE : limit.getYear();
+		for (int year = date.getYear(); year >= firstYear; year--) {
+			CalendarDate previous = occurrenceOf(year);
+			if (previous != null && previous.isAfter(date) == false) {
+				return precedes(previous, limit) ? null : previous;
 			}
-		};
+		}
+		return null;
+	}
+	
+	/**
+	 * 指定した暦年においてこの暦日仕様を満たす暦日を返す。
+	 * 
+	 * @param year 西暦年をあらわす数
+	 * @return 暦日。但し、その年に仕様を満たす暦日が存在しない場合（2月29日が平年の場合等）は{@code null}
+	 */
+	private CalendarDate occurrenceOf(int year) {
+		try {
+			return ofYear(year);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
 	}
 }
@@ -16,6 +16,7 @@
 package jp.xet.baseunits.time.spec;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import jp.xet.baseunits.time.CalendarDate;
 import jp.xet.baseunits.time.CalendarInterval;
@@ -33,6 +34,84 @@ import com.google.common.base.Preconditions;
 public abstract class AbstractDateSpecification extends AbstractSpecification<CalendarDate> implements
 		DateSpecification {
 	
+	/** 探索の限界を指定しない場合に探索する月数（グレゴリオ暦の1周期） */
+	private static final int MONTHS_PER_CYCLE = 400 * 12;
+	
+	
+	/**
+	 * 指定した暦日が、上限とする暦日を超えているかどうかを返す。
+	 * 
+	 * @param date 暦日
+	 * @param limit 上限とする暦日。{@code null}の場合は上限なし
+	 * @return 超えている場合は{@code true}、そうでない場合は{@code false}
+	 */
+	static boolean exceeds(CalendarDate date, CalendarDate limit) {
+		return limit != null && date.isAfter(limit);
+	}
+	
+	/**
+	 * 指定した期間に含まれる最初の暦日を返す。
+	 * 
+	 * @param interval 期間
+	 * @return 暦日。但し、期間が下側限界を持たない場合は{@code null}
+	 */
+	static CalendarDate firstDayOf(CalendarInterval interval) {
+		if (interval.hasLowerLimit() == false) {
+			return null;
+		}
+		return interval.includesLowerLimit() ? interval.lowerLimit() : interval.lowerLimit().nextDay();
+	}
+	
+	/**
+	 * 指定した期間に含まれる最後の暦日を返す。
+	 * 
+	 * @param interval 期間
+	 * @return 暦日。但し、期間が上側限界を持たない場合は{@code null}
+	 */
+	static CalendarDate lastDayOf(CalendarInterval interval) {
+		if (interval.hasUpperLimit() == false) {
+			return null;
+		}
+		return interval.includesUpperLimit() ? interval.upperLimit() : interval.upperLimit().previousDay();
+	}
+	
+	/**
+	 * 前方への探索の上限とする暦日を返す。
+	 * 
+	 * <p>上限が指定されない場合、仕様を満たす暦日が存在しなければ探索が終わらないため、
+	 * 探索を開始する暦日からグレゴリオ暦の1周期（400年）後を上限とする。</p>
+	 * 
+	 * @param date 探索を開始する暦日
+	 * @param limit 上限とする暦日。{@code null}の場合は上限なし
+	 * @return 上限とする暦日
+	 */
+	static CalendarDate nextLimitOf(CalendarDate date, CalendarDate limit) {
+		return limit == null ? date.plusMonths(MONTHS_PER_CYCLE) : limit;
+	}
+	
+	/**
+	 * 指定した暦日が、下限とする暦日を下回っているかどうかを返す。
+	 * 
+	 * @param date 暦日
+	 * @param limit 下限とする暦日。{@code null}の場合は下限なし
+	 * @return 下回っている場合は{@code true}、そうでない場合は{@code false}
+	 */
+	static boolean precedes(CalendarDate date, CalendarDate limit) {
+		return limit != null && date.isBefore(limit);
+	}
+	
+	/**
+	 * 後方への探索の下限とする暦日を返す。
+	 * 
+	 * @param date 探索を開始する暦日
+	 * @param limit 下限とする暦日。{@code null}の場合は下限なし
+	 * @return 下限とする暦日
+	 * @see #nextLimitOf(CalendarDate, CalendarDate)
+	 */
+	static CalendarDate previousLimitOf(CalendarDate date, CalendarDate limit) {
+		return limit == null ? date.plusMonths(-MONTHS_PER_CYCLE) : limit;
+	}
+	
 	@Override
 	public DateSpecification and(DateSpecification specification) {
 		return new AndDateSpecification(this, specification);
@@ -42,19 +121,13 @@ public abstract class AbstractDateSpecification extends AbstractSpecification<Ca
 	public CalendarDate firstOccurrenceIn(CalendarInterval interval) {
 		Preconditions.checkNotNull(interval);
 		Preconditions.checkArgument(interval.hasLowerLimit());
-		Iterator<CalendarDate> itr = interval.daysIterator();
-		while (itr.hasNext()) {
-			CalendarDate date = itr.next();
-			if (isSatisfiedBy(date)) {
-				return date;
-			}
-		}
-		return null;
+		return nextOccurrence(firstDayOf(interval), lastDayOf(interval));
 	}
 	
 	@Override
 	public Iterator<CalendarDate> iterateOver(final CalendarInterval interval) {
 		Preconditions.checkNotNull(interval);
+		final CalendarDate limit = lastDayOf(interval);
 		return new ImmutableIterator<CalendarDate>() {
 			
 			CalendarDate next = firstOccurrenceIn(interval);
@@ -67,16 +140,11 @@ public abstract class AbstractDateSpecification extends AbstractSpecification<Ca
 			
 			@Override
 			public CalendarDate next() {
-				CalendarDate current = next;
-				
-				do {
-					next = next.nextDay();
-				} while (isSatisfiedBy(next) == false && interval.includes(next));
-				
-				if (interval.includes(next) == false) {
-					next = null;
+				if (hasNext() == false) {
+					throw new NoSuchElementException();
 				}
-				
+				CalendarDate current = next;
+				next = nextOccurrence(current.nextDay(), limit);
 				return current;
 			}
 		};
@@ -86,14 +154,7 @@ public abstract class AbstractDateSpecification extends AbstractSpecification<Ca
 	public CalendarDate lastOccurrenceIn(CalendarInterval interval) {
 		Preconditions.checkNotNull(interval);
 		Preconditions.checkArgument(interval.hasUpperLimit());
-		Iterator<CalendarDate> itr = interval.daysInReverseIterator();
-		while (itr.hasNext()) {
-			CalendarDate date = itr.next();
-			if (isSatisfiedBy(date)) {
-				return date;
-			}
-		}
-		return null;
+		return previousOccurrence(lastDayOf(interval), firstDayOf(interval));
 	}
 	
 	@Override
@@ -15,13 +15,8 @@
  */
 package jp.xet.baseunits.time.spec;
 
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-
 import jp.xet.baseunits.time.CalendarDate;
-import jp.xet.baseunits.time.CalendarInterval;
 import jp.xet.baseunits.time.CalendarMonth;
-import jp.xet.baseunits.util.ImmutableIterator;
 
 import com.google.common.base.Preconditions;
 
@@ -34,52 +29,97 @@ import com.google.common.base.Preconditions;
 public abstract class AbstractMonthlyDateSpecification extends AbstractDateSpecification implements
 		MonthlyDateSpecification {
 	
+	/** グレゴリオ暦の1周期の月数。上限を設けずに探索する場合は、これを超えて探索しない。 */
+	private static final int MONTHS_PER_CYCLE = 400 * 12;
+	
+	
+	/**
+	 * 指定した暦月の、西暦0年1月からの通算月数を返す。
+	 * 
+	 * @param month 暦月
+	 * @return 通算月数
+	 */
+	static int indexOf(CalendarMonth month) {
+		return month.getYear() * 12 + month.getMonthOfYear().breachEncapsulationOfValue() - 1;
+	}
+	
+	/**
+	 * 西暦0年1月からの通算月数が示す暦月を返す。
+	 * 
+	 * @param index 通算月数
+	 * @return 暦月
+	 */
+	static CalendarMonth monthOf(int index) {
+		return CalendarMonth.from(Math.floorDiv(index, 12), Math.floorMod(index, 12) + 1);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>{@link #ofYearMonth(CalendarMonth)}は営業日への調整等により前後の月の暦日を返し得るため、
+	 * {@code date}の前月から順に各月の暦日を求め、{@code date}以降で最も早いものを返す。</p>
+	 */
 	@Override
-	public CalendarDate firstOccurrenceIn(CalendarInterval interval) {
-		Preconditions.checkNotNull(interval);
-		Preconditions.checkArgument(interval.hasLowerLimit());
-		CalendarMonth month = interval.start().asCalendarMonth();
-		
-		CalendarDate firstTry = ofYearMonth(month);
-		if (interval.includes(firstTry)) {
-			return firstTry;
-		}
-		
-		CalendarDate secondTry = ofYearMonth(month.nextMonth());
-		if (interval.includes(secondTry)) {
-			return secondTry;
+	public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarMonth lastMonth = limit == null ? null : limit.asCalendarMonth().nextMonth();
+		CalendarMonth month = date.asCalendarMonth().previousMonth();
+		CalendarDate nearest = null;
+		for (int i = 0; lastMonth == null ? i <= MONTHS_PER_CYCLE + 2 : month.isAfter(lastMonth) == false; i++) {
+			CalendarDate next = occurrenceOf(month);
+			if (next != null && next.isBefore(date) == false && (nearest == null || next.isBefore(nearest))) {
+				nearest = next;
+			}
+			// 前月・当月・翌月の暦日は順序が入れ替わり得るため、少なくとも翌月までは比較する
+			if (nearest != null && i >= 2) {
+				break;
+			}
+			month = month.nextMonth();
 		}
-		return null;
+		return nearest == null || exceeds(nearest, limit) ? null : nearest;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>{@code date}の翌月から順に各月の暦日を求め、{@code date}以前で最も遅いものを返す。</p>
+	 * 
+	 * @see #nextOccurrence(CalendarDate, CalendarDate)
+	 */
 	@Override
-	public Iterator<CalendarDate> iterateOver(final CalendarInterval interval) {
-		Preconditions.checkNotNull(interval);
-		return new ImmutableIterator<CalendarDate>() {
-			
-			CalendarDate next = firstOccurrenceIn(interval);
-			
-			CalendarMonth month = next.asCalendarMonth();
-			
-			
-			@Override
-			public boolean hasNext() {
-				return next != null;
+	public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarMonth firstMonth = limit == null ? null : limit.asCalendarMonth().previousMonth();
+		CalendarMonth month = date.asCalendarMonth().nextMonth();
+		CalendarDate nearest = null;
+		for (int i = 0; firstMonth == null ? i <= MONTHS_PER_CYCLE + 2 : month.isBefore(firstMonth) == false; i++) {
+			CalendarDate previous = occurrenceOf(month);
+			if (previous != null && previous.isAfter(date) == false
+					&& (nearest == null || previous.isAfter(nearest))) {
+				nearest = previous;
 			}
-			
-			@Override
-			public CalendarDate next() {
-				if (hasNext() == false) {
-					throw new NoSuchElementException();
-				}
-				CalendarDate current = next;
-				month = month.nextMonth();
-				next = AbstractMonthlyDateSpecification.this.ofYearMonth(month);
-				if (interval.includes(next) == false) {
-					next = null;
-				}
-				return current;
+			if (nearest != null && i >= 2) {
+				break;
 			}
-		};
+			month = month.previousMonth();
+		}
+		return nearest == null || precedes(nearest, limit) ? null : nearest;
+	}
+	
+	/**
+	 * 指定した暦月においてこの暦日仕様を満たす暦日を返す。
+	 * 
+	 * <p>{@link #ofYearMonth(CalendarMonth)}と異なり、暦日が存在しない場合は例外をスローせずに{@code null}を返す。
+	 * 返す暦日は、営業日への調整等により前後の月の暦日である場合がある。</p>
+	 * 
+	 * @param month 暦月
+	 * @return 暦日。但し、その月に仕様を満たす暦日が存在しない場合（31日が小の月の場合等）は{@code null}
+	 */
+	private CalendarDate occurrenceOf(CalendarMonth month) {
+		try {
+			return ofYearMonth(month);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
 	}
 }
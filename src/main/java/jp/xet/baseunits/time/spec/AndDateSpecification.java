@@ -69,4 +69,41 @@ public final class AndDateSpecification extends AbstractDateSpecification {
 	public boolean isSatisfiedBy(CalendarDate t) {
 		return left.isSatisfiedBy(t) && right.isSatisfiedBy(t);
 	}
+	
+	@Override
+	public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarDate last = nextLimitOf(date, limit);
+		CalendarDate candidate = date;
+		while (true) {
+			// 左辺を満たす暦日から右辺を探索し、一致するまで互いに読み飛ばす
+			CalendarDate l = left.nextOccurrence(candidate, last);
+			if (l == null) {
+				return null;
+			}
+			CalendarDate r = right.nextOccurrence(l, last);
+			if (r == null || r.equals(l)) {
+				return r;
+			}
+			candidate = r;
+		}
+	}
+	
+	@Override
+	public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarDate first = previousLimitOf(date, limit);
+		CalendarDate candidate = date;
+		while (true) {
+			CalendarDate l = left.previousOccurrence(candidate, first);
+			if (l == null) {
+				return null;
+			}
+			CalendarDate r = right.previousOccurrence(l, first);
+			if (r == null || r.equals(l)) {
+				return r;
+			}
+			candidate = r;
+		}
+	}
 }
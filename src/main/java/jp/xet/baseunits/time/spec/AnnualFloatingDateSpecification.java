@@ -39,6 +39,9 @@ public final class AnnualFloatingDateSpecification extends AbstractAnnualDateSpe
 	
 	final int occurrence;
 	
+	/** {@link #ofYear(int)}の結果のキャッシュ */
+	private final transient OccurrenceCache occurrences = new OccurrenceCache(this::occurrenceIn);
+	
 	
 	/**
 	 * インスタンスを生成する。
@@ -89,16 +92,40 @@ public final class AnnualFloatingDateSpecification extends AbstractAnnualDateSpe
 	@Override
 	public boolean isSatisfiedBy(CalendarDate date) {
 		Preconditions.checkNotNull(date);
-		return ofYear(date.asCalendarMonth().getYear()).equals(date);
+		// 第n◎曜日は、その曜日のうち日が(n - 1) * 7 + 1日から n * 7日までのもの
+		return date.dayOfWeek() == dayOfWeek && (date.getDayOfMonth().toInt() - 1) / 7 + 1 == occurrence
+				&& date.getMonthOfYear() == month;
 	}
 	
 	@Override
 	public CalendarDate ofYear(int year) {
+		CalendarDate date = occurrences.get(year);
+		if (date == null) {
+			throw new IllegalArgumentException("No occurrence in " + year);
+		}
+		return date;
+	}
+	
+	/**
+	 * 指定した暦年においてこの暦日仕様を満たす暦日を計算する。
+	 * 
+	 * @param year 西暦年をあらわす数
+	 * @return 暦日。但し、その年に仕様を満たす暦日が存在しない場合は{@code null}
+	 */
+	private CalendarDate occurrenceIn(int year) {
 		CalendarDate firstOfMonth = CalendarDate.from(year, month, DayOfMonth.valueOf(1));
 		int dayOfWeekOffset =
 				dayOfWeek.breachEncapsulationOfValue() - firstOfMonth.dayOfWeek().breachEncapsulationOfValue();
 		int dateOfFirstOccurrenceOfDayOfWeek = dayOfWeekOffset + (dayOfWeekOffset < 0 ? 8 : 1);
 		int date = ((occurrence - 1) * 7) + dateOfFirstOccurrenceOfDayOfWeek;
+		if (date > month.getLastDayOfThisMonth(year).toInt()) {
+			return null;
+		}
 		return CalendarDate.from(year, month, DayOfMonth.valueOf(date));
 	}
+	
+	private Object readResolve() {
+		// キャッシュを初期化する
+		return new AnnualFloatingDateSpecification(month, dayOfWeek, occurrence);
+	}
 }
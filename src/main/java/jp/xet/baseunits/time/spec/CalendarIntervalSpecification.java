@@ -31,9 +31,11 @@ import jp.xet.baseunits.time.CalendarInterval;
  * @author daisuke
  * @since 2.0
  */
-@SuppressWarnings("serial")
 public final class CalendarIntervalSpecification extends AbstractDateSpecification implements Serializable {
 	
+	private static final long serialVersionUID = 8042530915846904274L;
+	
+	
 	final CalendarInterval interval;
 	
 	
@@ -85,6 +87,28 @@ public final class CalendarIntervalSpecification extends AbstractDateSpecificati
 		return intersect.daysIterator();
 	}
 	
+	@Override
+	public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarDate first = firstDayOf(interval);
+		CalendarDate next = first != null && date.isBefore(first) ? first : date;
+		if (interval.includes(next) == false || exceeds(next, limit)) {
+			return null;
+		}
+		return next;
+	}
+	
+	@Override
+	public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarDate last = lastDayOf(interval);
+		CalendarDate previous = last != null && date.isAfter(last) ? last : date;
+		if (interval.includes(previous) == false || precedes(previous, limit)) {
+			return null;
+		}
+		return previous;
+	}
+	
 	@Override
 	public String toString() {
 		return interval.toString();
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time.spec;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jp.xet.baseunits.time.CalendarDate;
+import jp.xet.baseunits.time.EpochDays;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * 他の{@link DateSpecification}の判定結果を、年毎のビット集合としてキャッシュする暦日仕様。
+ * 
+ * <p>ある年の暦日について初めて問い合わせがあった時に、元の仕様をその年の全ての暦日に適用した結果を
+ * ビット集合として保持する。以降、その年に対する{@link #isSatisfiedBy(CalendarDate)}はビットの検査となり、
+ * {@link #nextOccurrence(CalendarDate, CalendarDate)}等の探索は{@link BitSet#nextSetBit(int)}等で行う。</p>
+ * 
+ * <p>元の仕様は、同じ暦日に対して常に同じ結果を返すものでなければならない。
+ * また、キャッシュは問い合わせのあった年の数だけ増え続け、破棄されることはない。</p>
+ * 
+ * <p>このクラスはスレッドセーフである。</p>
+ * 
+ * @author daisuke
+ * @since #version#
+ */
+public final class CompiledDateSpecification extends AbstractDateSpecification {
+	
+	private static CalendarDate dateOf(int year, int index) {
+		int packed = EpochDays.toPacked(EpochDays.toEpochDay(year, 1, 1) + index);
+		return CalendarDate.from(EpochDays.yearOf(packed), EpochDays.monthOf(packed), EpochDays.dayOf(packed));
+	}
+	
+	private static int indexOf(CalendarDate date) {
+		return EpochDays.dayOfYear(date.getYear(), date.getMonthOfYear().breachEncapsulationOfValue(),
+				date.getDayOfMonth().toInt()) - 1;
+	}
+	
+	
+	final DateSpecification spec;
+	
+	private final ConcurrentMap<Integer, YearBits> years = new ConcurrentHashMap<>();
+	
+	/** 最後に参照した年のビット集合 */
+	private volatile YearBits last;
+	
+	
+	/**
+	 * インスタンスを生成する。
+	 * 
+	 * @param spec 元の暦日仕様
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public CompiledDateSpecification(DateSpecification spec) {
+		Preconditions.checkNotNull(spec);
+		this.spec = spec;
+	}
+	
+	/**
+	 * 元の暦日仕様を返す。
+	 * 
+	 * @return 元の暦日仕様
+	 * @since #version#
+	 */
+	public DateSpecification getSpec() {
+		return spec;
+	}
+	
+	@Override
+	public boolean isSatisfiedBy(CalendarDate date) {
+		Preconditions.checkNotNull(date);
+		return bitsOf(date.getYear()).get(indexOf(date));
+	}
+	
+	@Override
+	public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		if (exceeds(date, limit)) {
+			return null;
+		}
+		int year = date.getYear();
+		int lastYear = limit == null ? year : limit.getYear();
+		int index = bitsOf(year).nextSetBit(indexOf(date));
+		while (index < 0 && year < lastYear) {
+			year++;
+			index = bitsOf(year).nextSetBit(0);
+		}
+		if (index < 0) {
+			// 上限がない場合、翌年以降の探索は元の仕様に委ねる
+			return limit == null ? spec.nextOccurrence(CalendarDate.from(year + 1, 1, 1), null) : null;
+		}
+		CalendarDate result = dateOf(year, index);
+		return exceeds(result, limit) ? null : result;
+	}
+	
+	@Override
+	public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		if (precedes(date, limit)) {
+			return null;
+		}
+		int year = date.getYear();
+		int firstYear = limit == null ? year : limit.getYear();
+		int index = bitsOf(year).previousSetBit(indexOf(date));
+		while (index < 0 && year > firstYear) {
+			year--;
+			index = bitsOf(year).length() - 1;
+		}
+		if (index < 0) {
+			// 下限がない場合、前年以前の探索は元の仕様に委ねる
+			return limit == null ? spec.previousOccurrence(CalendarDate.from(year - 1, 12, 31), null) : null;
+		}
+		CalendarDate result = dateOf(year, index);
+		return precedes(result, limit) ? null : result;
+	}
+	
+	private BitSet bitsOf(int year) {
+		YearBits yearBits = last;
+		if (yearBits == null || yearBits.year != year) {
+			yearBits = years.computeIfAbsent(year, this::compile);
+			last = yearBits;
+		}
+		return yearBits.bits;
+	}
+	
+	private YearBits compile(int year) {
+		CalendarDate lastDay = CalendarDate.from(year, 12, 31);
+		BitSet bits = new BitSet(EpochDays.dayOfYear(year, 12, 31));
+		for (CalendarDate date = spec.nextOccurrence(CalendarDate.from(year, 1, 1), lastDay); date != null; date =
+				spec.nextOccurrence(date.nextDay(), lastDay)) {
+			bits.set(indexOf(date));
+		}
+		return new YearBits(year, bits);
+	}
+	
+	
+	private static final class YearBits {
+		
+		final int year;
+		
+		/** 年初からの日数(0始まり)をインデックスとし、元の仕様を満たす暦日のビットを立てた集合 */
+		final BitSet bits;
+		
+		
+		YearBits(int year, BitSet bits) {
+			this.year = year;
+			this.bits = bits;
+		}
+	}
+}
@@ -21,6 +21,8 @@ import jp.xet.baseunits.time.CalendarDate;
 import jp.xet.baseunits.time.CalendarInterval;
 import jp.xet.baseunits.util.spec.Specification;
 
+import com.google.common.base.Preconditions;
+
 /**
  * 暦日仕様を表すインターフェイス。
  * 
@@ -82,6 +84,32 @@ public interface DateSpecification extends Specification<CalendarDate> {
 	 */
 	CalendarDate lastOccurrenceIn(CalendarInterval interval);
 	
+	/**
+	 * 指定した暦日以降で、この暦日仕様を満たす最初の暦日を返す。
+	 * 
+	 * <p>{@link #firstOccurrenceIn(CalendarInterval)}や{@link #iterateOver(CalendarInterval)}は、このメソッドを基に
+	 * 暦日を探索する。単純な暦日仕様は次の暦日を直接算出し、論理演算による暦日仕様は構成要素の結果を基に
+	 * 探索範囲を読み飛ばすため、探索にかかる時間は期間の日数ではなく、仕様を満たす暦日の数に依存する。</p>
+	 * 
+	 * <p>デフォルト実装は、1日ずつ{@link #isSatisfiedBy(Object)}を検証する。</p>
+	 * 
+	 * @param date 探索を開始する暦日（この暦日を含む）
+	 * @param limit 探索の上限とする暦日（この暦日を含む）。{@code null}の場合は{@code date}の400年後までを探索する
+	 * @return 暦日。但し、仕様を満たす暦日がなかった場合は{@code null}
+	 * @throws NullPointerException 引数{@code date}に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	default CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarDate last = AbstractDateSpecification.nextLimitOf(date, limit);
+		for (CalendarDate current = date; current.isAfter(last) == false; current = current.nextDay()) {
+			if (isSatisfiedBy(current)) {
+				return current;
+			}
+		}
+		return null;
+	}
+	
 	@Override
 	DateSpecification not();
 	
@@ -94,4 +122,27 @@ public interface DateSpecification extends Specification<CalendarDate> {
 	 * @since 1.0
 	 */
 	DateSpecification or(DateSpecification specification);
+	
+	/**
+	 * 指定した暦日以前で、この暦日仕様を満たす最後の暦日を返す。
+	 * 
+	 * <p>デフォルト実装は、1日ずつ{@link #isSatisfiedBy(Object)}を検証する。</p>
+	 * 
+	 * @param date 探索を開始する暦日（この暦日を含む）
+	 * @param limit 探索の下限とする暦日（この暦日を含む）。{@code null}の場合は{@code date}の400年前までを探索する
+	 * @return 暦日。但し、仕様を満たす暦日がなかった場合は{@code null}
+	 * @throws NullPointerException 引数{@code date}に{@code null}を与えた場合
+	 * @see #nextOccurrence(CalendarDate, CalendarDate)
+	 * @since #version#
+	 */
+	default CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarDate first = AbstractDateSpecification.previousLimitOf(date, limit);
+		for (CalendarDate current = date; current.isBefore(first) == false; current = current.previousDay()) {
+			if (isSatisfiedBy(current)) {
+				return current;
+			}
+		}
+		return null;
+	}
 }
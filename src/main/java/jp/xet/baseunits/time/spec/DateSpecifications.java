@@ -23,6 +23,7 @@ import java.util.Iterator;
 import jp.xet.baseunits.time.BusinessCalendar;
 import jp.xet.baseunits.time.CalendarDate;
 import jp.xet.baseunits.time.CalendarInterval;
+import jp.xet.baseunits.time.CalendarMonth;
 import jp.xet.baseunits.time.DayOfMonth;
 import jp.xet.baseunits.time.DayOfWeek;
 import jp.xet.baseunits.time.MonthOfYear;
@@ -38,6 +39,21 @@ import com.google.common.base.Preconditions;
  */
 public final class DateSpecifications {
 	
+	/**
+	 * {@link #configureOccurrenceCache(int)}の既定値を指定するシステムプロパティ名
+	 * 
+	 * @since #version#
+	 */
+	public static final String OCCURRENCE_CACHE_PROPERTY = "jp.xet.baseunits.time.spec.occurrenceCacheSize";
+	
+	/**
+	 * {@link #configureOccurrenceCache(int)}の既定値
+	 * 
+	 * @since #version#
+	 */
+	public static final int DEFAULT_OCCURRENCE_CACHE_SIZE = 64;
+	
+	
 	/**
 	 * どの暦日にもマッチする暦日仕様を返す。
 	 * 
@@ -60,6 +76,48 @@ public final class DateSpecifications {
 		return new CalendarIntervalSpecification(interval);
 	}
 	
+	/**
+	 * 指定した暦日仕様の判定結果を、年毎のビット集合としてキャッシュする暦日仕様を返す。
+	 * 
+	 * <p>同じ仕様で多数の暦日を判定・探索する場合に用いる。
+	 * 詳細は{@link CompiledDateSpecification}を参照のこと。</p>
+	 * 
+	 * @param spec 元の暦日仕様
+	 * @return 暦日仕様
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public static DateSpecification compile(DateSpecification spec) {
+		Preconditions.checkNotNull(spec);
+		if (spec instanceof CompiledDateSpecification) {
+			return spec;
+		}
+		return new CompiledDateSpecification(spec);
+	}
+	
+	/**
+	 * 以降に生成する暦日仕様が、年毎・月毎にマッチする暦日を保持するキャッシュの容量を設定する。
+	 * 
+	 * <p>キャッシュは{@link #nthOccuranceOfWeekdayInEveryMonth(DayOfWeek, int)}、
+	 * {@link #nthOccuranceOfWeekdayInMonth(MonthOfYear, DayOfWeek, int)}及び
+	 * {@link #fixedBusiness(DayOfMonth, Shifter, BusinessCalendar)}が返す暦日仕様のインスタンス毎に持ち、
+	 * 容量の範囲で連続する年・暦月の{@link AnnualDateSpecification#ofYear(int)}・
+	 * {@link MonthlyDateSpecification#ofYearMonth(CalendarMonth)}の結果を保持する。
+	 * {@code 0}を指定した場合はキャッシュを無効にする。既定値はシステムプロパティ
+	 * {@value #OCCURRENCE_CACHE_PROPERTY}で指定でき、指定がない場合は{@value #DEFAULT_OCCURRENCE_CACHE_SIZE}である。</p>
+	 * 
+	 * <p>{@link #fixedBusiness(DayOfMonth, Shifter, BusinessCalendar)}は、休日仕様を変更できない
+	 * {@link BusinessCalendar}（{@link BusinessCalendar#isImmutable()}）を与えた場合に限りキャッシュを行う。</p>
+	 * 
+	 * @param size キャッシュの容量（年数または月数）
+	 * @throws IllegalArgumentException 引数に負数を与えた場合
+	 * @since #version#
+	 */
+	public static void configureOccurrenceCache(int size) {
+		Preconditions.checkArgument(size >= 0, "size must be zero or positive: %s", size);
+		OccurrenceCache.configure(size);
+	}
+	
 	/**
 	 * 指定した曜日にマッチする暦日仕様を返す。
 	 * 
@@ -225,11 +283,12 @@ public final class DateSpecifications {
 	}
 	
 	
-	@SuppressWarnings("serial")
 	private static final class AlwaysDateSpecification extends AbstractDateSpecification implements Serializable {
 		
 		static final AlwaysDateSpecification INSTANCE = new AlwaysDateSpecification();
 		
+		private static final long serialVersionUID = -2907539557057302941L;
+		
 		
 		private AlwaysDateSpecification() {
 		}
@@ -250,13 +309,26 @@ public final class DateSpecifications {
 			Preconditions.checkArgument(interval.hasLowerLimit());
 			return interval.daysIterator();
 		}
+		
+		@Override
+		public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+			Preconditions.checkNotNull(date);
+			return exceeds(date, limit) ? null : date;
+		}
+		
+		@Override
+		public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+			Preconditions.checkNotNull(date);
+			return precedes(date, limit) ? null : date;
+		}
 	}
 	
-	@SuppressWarnings("serial")
 	private static final class NeverDateSpecification extends AbstractDateSpecification implements Serializable {
 		
 		static final NeverDateSpecification INSTANCE = new NeverDateSpecification();
 		
+		private static final long serialVersionUID = -1502914838176752743L;
+		
 		
 		private NeverDateSpecification() {
 		}
@@ -278,5 +350,17 @@ public final class DateSpecifications {
 		public Iterator<CalendarDate> iterateOver(CalendarInterval interval) {
 			return Collections.EMPTY_LIST.iterator();
 		}
+		
+		@Override
+		public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+			Preconditions.checkNotNull(date);
+			return null;
+		}
+		
+		@Override
+		public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+			Preconditions.checkNotNull(date);
+			return null;
+		}
 	}
 }
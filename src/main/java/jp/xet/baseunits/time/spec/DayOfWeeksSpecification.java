@@ -17,14 +17,10 @@ package jp.xet.baseunits.time.spec;
 
 import java.io.Serializable;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
 import java.util.Set;
 
 import jp.xet.baseunits.time.CalendarDate;
-import jp.xet.baseunits.time.CalendarInterval;
 import jp.xet.baseunits.time.DayOfWeek;
-import jp.xet.baseunits.util.ImmutableIterator;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
@@ -35,9 +31,13 @@ import com.google.common.collect.Sets;
  * @author daisuke
  * @since 2.0
  */
-@SuppressWarnings("serial")
 public final class DayOfWeeksSpecification extends AbstractDateSpecification implements Serializable {
 	
+	private static final DayOfWeek[] DAY_OF_WEEKS = DayOfWeek.values();
+	
+	private static final long serialVersionUID = -8235985928375601654L;
+	
+	
 	final Set<DayOfWeek> dayOfWeeks;
 	
 	
@@ -72,23 +72,6 @@ public final class DayOfWeeksSpecification extends AbstractDateSpecification imp
 		this.dayOfWeeks.add(dayOfWeek);
 	}
 	
-	@Override
-	public CalendarDate firstOccurrenceIn(CalendarInterval interval) {
-		Preconditions.checkNotNull(interval);
-		Preconditions.checkArgument(interval.hasLowerLimit());
-		Iterator<CalendarDate> itr = interval.daysIterator();
-		int counter = 0;
-		while (itr.hasNext()) {
-			CalendarDate calendarDate = itr.next();
-			if (dayOfWeeks.contains(calendarDate.dayOfWeek())) {
-				return calendarDate;
-			}
-			counter++;
-			assert counter < DayOfWeek.SIZE; // 7周以上しないはず
-		}
-		return null;
-	}
-	
 	/**
 	 * この仕様を満たす条件としての曜日集合を返す。
 	 * 
@@ -105,34 +88,29 @@ public final class DayOfWeeksSpecification extends AbstractDateSpecification imp
 	}
 	
 	@Override
-	public Iterator<CalendarDate> iterateOver(final CalendarInterval interval) {
-		return new ImmutableIterator<CalendarDate>() {
-			
-			CalendarDate next = firstOccurrenceIn(interval);
-			
-			
-			@Override
-			public boolean hasNext() {
-				return next != null;
+	public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		int dayOfWeek = date.dayOfWeek().ordinal();
+		for (int days = 0; days < DayOfWeek.SIZE; days++) {
+			if (dayOfWeeks.contains(DAY_OF_WEEKS[(dayOfWeek + days) % DayOfWeek.SIZE])) {
+				CalendarDate next = date.plusDays(days);
+				return exceeds(next, limit) ? null : next;
 			}
-			
-			@Override
-			public CalendarDate next() {
-				if (hasNext() == false) {
-					throw new NoSuchElementException();
-				}
-				CalendarDate current = next;
-				
-				do {
-					next = next.nextDay();
-				} while (isSatisfiedBy(next) == false);
-				
-				if (interval.includes(next) == false) {
-					next = null;
-				}
-				return current;
+		}
+		return null;
+	}
+	
+	@Override
+	public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		int dayOfWeek = date.dayOfWeek().ordinal();
+		for (int days = 0; days < DayOfWeek.SIZE; days++) {
+			if (dayOfWeeks.contains(DAY_OF_WEEKS[(dayOfWeek - days + DayOfWeek.SIZE) % DayOfWeek.SIZE])) {
+				CalendarDate previous = date.plusDays(-days);
+				return precedes(previous, limit) ? null : previous;
 			}
-		};
+		}
+		return null;
 	}
 	
 	@Override
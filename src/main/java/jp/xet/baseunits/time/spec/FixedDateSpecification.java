@@ -32,9 +32,11 @@ import jp.xet.baseunits.time.CalendarInterval;
  * @author daisuke
  * @since 1.0
  */
-@SuppressWarnings("serial")
 public final class FixedDateSpecification extends AbstractDateSpecification implements Serializable {
 	
+	private static final long serialVersionUID = -1510179091998810185L;
+	
+	
 	final CalendarDate date;
 	
 	
@@ -84,6 +86,24 @@ public final class FixedDateSpecification extends AbstractDateSpecification impl
 		}
 	}
 	
+	@Override
+	public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		if (date.isAfter(this.date) || exceeds(this.date, limit)) {
+			return null;
+		}
+		return this.date;
+	}
+	
+	@Override
+	public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		if (date.isBefore(this.date) || precedes(this.date, limit)) {
+			return null;
+		}
+		return this.date;
+	}
+	
 	@Override
 	public String toString() {
 		return date.toString();
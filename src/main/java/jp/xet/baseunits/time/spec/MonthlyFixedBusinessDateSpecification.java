@@ -36,6 +36,9 @@ public final class MonthlyFixedBusinessDateSpecification extends AbstractMonthly
 	
 	final BusinessCalendar cal;
 	
+	/** {@link #ofYearMonth(CalendarMonth)}の結果のキャッシュ */
+	private final OccurrenceCache occurrences;
+	
 	
 	/**
 	 * インスタンスを生成する。
@@ -53,6 +56,8 @@ public final class MonthlyFixedBusinessDateSpecification extends AbstractMonthly
 		this.day = day;
 		this.shifter = shifter;
 		this.cal = cal;
+		// 休日仕様が変更され得る場合、シフト結果は変わり得るためキャッシュしない
+		occurrences = new OccurrenceCache(this::occurrenceIn, cal.isImmutable() ? OccurrenceCache.size() : 0);
 	}
 	
 	/**
@@ -95,8 +100,25 @@ public final class MonthlyFixedBusinessDateSpecification extends AbstractMonthly
 	@Override
 	public CalendarDate ofYearMonth(CalendarMonth month) {
 		Preconditions.checkNotNull(month);
-		return shifter.shift(
-				CalendarDate.from(month.getYear(), month.getMonthOfYear(), day), cal);
+		CalendarDate date = occurrences.get(indexOf(month));
+		if (date == null) {
+			throw new IllegalArgumentException("No occurrence in " + month);
+		}
+		return date;
+	}
+	
+	/**
+	 * 指定した暦月においてこの暦日仕様を満たす暦日を計算する。
+	 * 
+	 * @param index 西暦0年1月からの通算月数
+	 * @return 暦日。但し、その月に{@link #getDay()}が存在しない場合は{@code null}
+	 */
+	private CalendarDate occurrenceIn(int index) {
+		CalendarMonth month = monthOf(index);
+		if (day.isApplyable(month) == false) {
+			return null;
+		}
+		return shifter.shift(CalendarDate.from(month.getYear(), month.getMonthOfYear(), day), cal);
 	}
 	
 	
@@ -37,6 +37,9 @@ public final class MonthlyFloatingDateSpecification extends AbstractMonthlyDateS
 	
 	final int occurrence;
 	
+	/** {@link #ofYearMonth(CalendarMonth)}の結果のキャッシュ */
+	private final transient OccurrenceCache occurrences = new OccurrenceCache(this::occurrenceIn);
+	
 	
 	/**
 	 * インスタンスを生成する。
@@ -74,16 +77,40 @@ public final class MonthlyFloatingDateSpecification extends AbstractMonthlyDateS
 	@Override
 	public boolean isSatisfiedBy(CalendarDate date) {
 		Preconditions.checkNotNull(date);
-		return ofYearMonth(date.asCalendarMonth()).equals(date);
+		// 第n◎曜日は、その曜日のうち日が(n - 1) * 7 + 1日から n * 7日までのもの
+		return date.dayOfWeek() == dayOfWeek && (date.getDayOfMonth().toInt() - 1) / 7 + 1 == occurrence;
 	}
 	
 	@Override
 	public CalendarDate ofYearMonth(CalendarMonth month) {
+		CalendarDate date = occurrences.get(indexOf(month));
+		if (date == null) {
+			throw new IllegalArgumentException("No occurrence in " + month);
+		}
+		return date;
+	}
+	
+	/**
+	 * 指定した暦月においてこの暦日仕様を満たす暦日を計算する。
+	 * 
+	 * @param index 西暦0年1月からの通算月数
+	 * @return 暦日。但し、その月に仕様を満たす暦日が存在しない場合は{@code null}
+	 */
+	private CalendarDate occurrenceIn(int index) {
+		CalendarMonth month = monthOf(index);
 		CalendarDate firstOfMonth = CalendarDate.from(month, DayOfMonth.valueOf(1));
 		int dayOfWeekOffset =
 				dayOfWeek.breachEncapsulationOfValue() - firstOfMonth.dayOfWeek().breachEncapsulationOfValue();
 		int dateOfFirstOccurrenceOfDayOfWeek = dayOfWeekOffset + (dayOfWeekOffset < 0 ? 8 : 1);
 		int date = ((occurrence - 1) * 7) + dateOfFirstOccurrenceOfDayOfWeek;
+		if (date > month.getLastDayOfMonth().toInt()) {
+			return null;
+		}
 		return CalendarDate.from(month, DayOfMonth.valueOf(date));
 	}
+	
+	private Object readResolve() {
+		// キャッシュを初期化する
+		return new MonthlyFloatingDateSpecification(dayOfWeek, occurrence);
+	}
 }
@@ -15,10 +15,7 @@
  */
 package jp.xet.baseunits.time.spec;
 
-import java.util.Iterator;
-
 import jp.xet.baseunits.time.CalendarDate;
-import jp.xet.baseunits.time.CalendarInterval;
 
 import com.google.common.base.Preconditions;
 
@@ -44,25 +41,6 @@ public final class NotDateSpecification extends AbstractDateSpecification {
 		this.spec = spec;
 	}
 	
-	@Override
-	public CalendarDate firstOccurrenceIn(CalendarInterval interval) {
-		Preconditions.checkNotNull(interval);
-		
-		if (interval.hasLowerLimit()) {
-			Iterator<CalendarDate> itr = interval.daysIterator();
-			while (itr.hasNext()) {
-				CalendarDate date = itr.next();
-				if (isSatisfiedBy(date)) {
-					return date;
-				}
-			}
-		} else {
-			// TODO ここ、算出できるか…？
-			throw new RuntimeException("not implemented");
-		}
-		return null;
-	}
-	
 	/**
 	 * NOT（否定）の判定基礎となる{@link DateSpecification}を返す。
 	 * 
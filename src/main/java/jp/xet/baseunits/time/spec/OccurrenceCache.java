@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time.spec;
+
+import java.util.function.IntFunction;
+
+import jp.xet.baseunits.time.CalendarDate;
+
+/**
+ * 年または暦月を表す整数をキーとして、暦日仕様がその期間にマッチする暦日を保持するキャッシュ。
+ * 
+ * <p>キーの下位ビットで位置が決まる固定長の配列であり、同じ位置のキーは後から計算したもので置き換える。
+ * そのため、連続する年・暦月に対する問い合わせは容量の範囲で互いに追い出し合わない。
+ * 要素は不変であり、複数のスレッドから同期なしに利用できる（競合した場合は同じ値を重複して計算することがある）。</p>
+ * 
+ * <p>容量は{@link DateSpecifications#configureOccurrenceCache(int)}で設定する。</p>
+ */
+final class OccurrenceCache {
+	
+	/** 容量の上限 */
+	static final int MAX_SIZE = 1 << 20;
+	
+	private static volatile int size = Math.max(Integer.getInteger(
+			DateSpecifications.OCCURRENCE_CACHE_PROPERTY, DateSpecifications.DEFAULT_OCCURRENCE_CACHE_SIZE), 0);
+	
+	
+	/**
+	 * 現在設定されている容量を返す。
+	 * 
+	 * @return 容量
+	 */
+	static int size() {
+		return size;
+	}
+	
+	/**
+	 * 以降に生成するキャッシュの容量を設定する。
+	 * 
+	 * @param newSize 容量。{@code 0}の場合はキャッシュしない
+	 */
+	static void configure(int newSize) {
+		size = newSize;
+	}
+	
+	
+	private final IntFunction<CalendarDate> function;
+	
+	private final Entry[] entries;
+	
+	
+	/**
+	 * 現在の設定に従った容量のキャッシュを生成する。
+	 * 
+	 * @param function キーに対応する暦日を計算する関数。マッチする暦日が存在しない場合は{@code null}を返す
+	 */
+	OccurrenceCache(IntFunction<CalendarDate> function) {
+		this(function, size);
+	}
+	
+	/**
+	 * 指定した容量のキャッシュを生成する。
+	 * 
+	 * @param function キーに対応する暦日を計算する関数。マッチする暦日が存在しない場合は{@code null}を返す
+	 * @param size 容量。{@code 0}の場合はキャッシュしない
+	 */
+	OccurrenceCache(IntFunction<CalendarDate> function, int size) {
+		this.function = function;
+		// 位置をビット演算で求めるため、2の冪に切り上げる
+		entries = new Entry[size == 0 ? 0 : Math.max(Integer.highestOneBit(Math.min(size, MAX_SIZE) - 1) << 1, 1)];
+	}
+	
+	/**
+	 * キーに対応する暦日を返す。キャッシュにない場合は計算して保持する。
+	 * 
+	 * @param key 年または暦月を表す整数
+	 * @return 暦日。マッチする暦日が存在しない場合は{@code null}
+	 */
+	CalendarDate get(int key) {
+		if (entries.length == 0) {
+			return function.apply(key);
+		}
+		int index = key & (entries.length - 1);
+		Entry entry = entries[index];
+		if (entry == null || entry.key != key) {
+			entry = new Entry(key, function.apply(key));
+			entries[index] = entry;
+		}
+		return entry.date;
+	}
+	
+	
+	private static final class Entry {
+		
+		final int key;
+		
+		final CalendarDate date;
+		
+		
+		Entry(int key, CalendarDate date) {
+			this.key = key;
+			this.date = date;
+		}
+	}
+}
@@ -109,4 +109,21 @@ public final class OrDateSpecification extends AbstractDateSpecification {
 	public boolean isSatisfiedBy(CalendarDate t) {
 		return left.isSatisfiedBy(t) || right.isSatisfiedBy(t);
 	}
+	
+	@Override
+	public CalendarDate nextOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarDate l = left.nextOccurrence(date, limit);
+		// 右辺は左辺の結果より先の暦日を探索する必要がない
+		CalendarDate r = right.nextOccurrence(date, l == null ? limit : l);
+		return r == null ? l : r;
+	}
+	
+	@Override
+	public CalendarDate previousOccurrence(CalendarDate date, CalendarDate limit) {
+		Preconditions.checkNotNull(date);
+		CalendarDate l = left.previousOccurrence(date, limit);
+		CalendarDate r = right.previousOccurrence(date, l == null ? limit : l);
+		return r == null ? l : r;
+	}
 }
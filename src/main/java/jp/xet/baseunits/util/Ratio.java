@@ -19,12 +19,18 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 import com.google.common.base.Preconditions;
+import com.google.common.math.LongMath;
 
 /**
  * {@link Ratio}は、2つ同じ単位を持つの量の商（比率）であり、単位のない値である。
  * 
  * <p>このクラスの利点は、比率の計算を遅延評価できることにある。</p>
  * 
+ * <p>{@link #equals(Object)}は約分前の分子と分母を比較するため、{@link #times(Ratio)}等の積は約分せずに
+ * 分子同士・分母同士の積を保持する。このため、積を繰り返すと分子と分母の桁数は増え続け、積の生成にかかる時間も増える。
+ * 一方、値の計算には約分した分数が{@code long}で表せる間はそれを用いるため、{@link #decimalValue(int, RoundingMode)}の
+ * 計算量は約分前の桁数に依存しない。</p>
+ * 
  * <p>Ratio represents the unitless division of two quantities of the same type.
  * The key to its usefulness is that it defers the calculation of a decimal
  * value for the ratio. An object which has responsibility for the two values in
@@ -76,7 +82,59 @@ public class Ratio {
 	 * @since 1.0
 	 */
 	public static Ratio of(long numerator, long denominator) {
-		return new Ratio(BigDecimal.valueOf(numerator), BigDecimal.valueOf(denominator));
+		return new Ratio(BigDecimal.valueOf(numerator), BigDecimal.valueOf(denominator),
+				reduce(numerator, denominator));
+	}
+	
+	/**
+	 * 分数を約分する。
+	 * 
+	 * @param numerator 分子
+	 * @param denominator 分母
+	 * @return 約分した分子と、正の分母からなる配列。{@code long}で表せない場合は{@code null}
+	 */
+	private static long[] reduce(BigDecimal numerator, BigDecimal denominator) {
+		if (numerator.precision() > 18 || denominator.precision() > 18) {
+			return null;
+		}
+		// 小数点の位置を揃え、整数同士の比にする
+		int shift = denominator.scale() - numerator.scale();
+		if (Math.abs(shift) > 18) {
+			return null;
+		}
+		long numeratorUnits = numerator.unscaledValue().longValue();
+		long denominatorUnits = denominator.unscaledValue().longValue();
+		try {
+			if (shift > 0) {
+				numeratorUnits = Math.multiplyExact(numeratorUnits, LongMath.pow(10, shift));
+			} else {
+				denominatorUnits = Math.multiplyExact(denominatorUnits, LongMath.pow(10, -shift));
+			}
+		} catch (ArithmeticException e) {
+			return null;
+		}
+		return reduce(numeratorUnits, denominatorUnits);
+	}
+	
+	/**
+	 * 分数を約分する。
+	 * 
+	 * @param numerator 分子
+	 * @param denominator 分母
+	 * @return 約分した分子と、正の分母からなる配列。{@code long}で表せない場合や分母が0の場合は{@code null}
+	 */
+	private static long[] reduce(long numerator, long denominator) {
+		if (denominator == 0 || numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+			return null;
+		}
+		long gcd = LongMath.gcd(Math.abs(numerator), Math.abs(denominator));
+		if (denominator < 0) {
+			gcd = -gcd;
+		}
+		return new long[] {
+			numerator / gcd,
+			denominator / gcd
+		};
 	}
 	
 	
@@ -86,6 +144,22 @@ public class Ratio {
 	/** 分母をあらわす数 */
 	private final BigDecimal denominator;
 	
+	/**
+	 * 既約分数とした分子。{@code long}で表せない場合は{@link #numerator}と同じ。
+	 * 
+	 * <p>{@link #numerator}/{@link #denominator}と同じ値をあらわすため、値の計算にはこちらを用いる。</p>
+	 */
+	private final BigDecimal reducedNumerator;
+	
+	/** 既約分数とした分母。{@code long}で表せない場合は{@link #denominator}と同じ。 */
+	private final BigDecimal reducedDenominator;
+	
+	/** {@link #reducedNumerator}と{@link #reducedDenominator}が{@code long}で表せる既約分数である場合は{@code true} */
+	private final boolean reduced;
+	
+	/** 直前に計算した{@link #decimalValue(int, RoundingMode)}の結果 */
+	private volatile DecimalValue lastDecimalValue;
+	
 	
 	/**
 	 * インスタンスを生成する。
@@ -97,13 +171,25 @@ public class Ratio {
 	 * @since 1.0
 	 */
 	public Ratio(BigDecimal numerator, BigDecimal denominator) {
-		Preconditions.checkNotNull(numerator);
-		Preconditions.checkNotNull(denominator);
+		this(numerator, denominator,
+				reduce(Preconditions.checkNotNull(numerator), Preconditions.checkNotNull(denominator)));
+	}
+	
+	private Ratio(BigDecimal numerator, BigDecimal denominator, long[] reducedUnits) {
 		if (denominator.equals(BigDecimal.ZERO)) {
 			throw new ArithmeticException("denominator is zero");
 		}
 		this.numerator = numerator;
 		this.denominator = denominator;
+		if (reducedUnits != null) {
+			reducedNumerator = BigDecimal.valueOf(reducedUnits[0]);
+			reducedDenominator = BigDecimal.valueOf(reducedUnits[1]);
+			reduced = true;
+		} else {
+			reducedNumerator = numerator;
+			reducedDenominator = denominator;
+			reduced = false;
+		}
 	}
 	
 	/**
@@ -133,6 +219,8 @@ public class Ratio {
 	/**
 	 * 比率を {@link BigDecimal}型で取得する。
 	 *  
+	 * <p>直前の呼び出しと同じ引数を与えた場合は、計算せずに同じ結果を返す。</p>
+	 *
 	 * @param scale 小数点以下の有効数字
 	 * @param roundingMode 丸めモード
 	 * @return この比率の {@link BigDecimal} 型の表現
@@ -141,7 +229,13 @@ public class Ratio {
 	 */
 	public BigDecimal decimalValue(int scale, RoundingMode roundingMode) {
 		Preconditions.checkNotNull(roundingMode);
-		return numerator.divide(denominator, scale, roundingMode);
+		DecimalValue last = lastDecimalValue;
+		if (last != null && last.scale == scale && last.roundingMode == roundingMode) {
+			return last.value;
+		}
+		BigDecimal value = reducedNumerator.divide(reducedDenominator, scale, roundingMode);
+		lastDecimalValue = new DecimalValue(scale, roundingMode, value);
+		return value;
 	}
 	
 	/**
@@ -200,7 +294,30 @@ public class Ratio {
 	 */
 	public Ratio times(BigDecimal multiplier) {
 		Preconditions.checkNotNull(multiplier);
-		return Ratio.of(numerator.multiply(multiplier), denominator);
+		BigDecimal product = numerator.multiply(multiplier);
+		if (reduced) {
+			return new Ratio(product, denominator, reduce(reducedNumerator.multiply(multiplier), reducedDenominator));
+		}
+		return Ratio.of(product, denominator);
+	}
+	
+	/**
+	 * この比率と {@code multiplier} の積を {@link BigDecimal}型で取得する。
+	 * 
+	 * <p>{@code times(multiplier).decimalValue(scale, roundingMode)}と同じ値を返すが、
+	 * 途中で{@link Ratio}を生成しない。</p>
+	 * 
+	 * @param multiplier 乗数
+	 * @param scale 小数点以下の有効数字
+	 * @param roundingMode 丸めモード
+	 * @return 積
+	 * @throws NullPointerException 引数に{@code null}を与えた場合
+	 * @since #version#
+	 */
+	public BigDecimal times(BigDecimal multiplier, int scale, RoundingMode roundingMode) {
+		Preconditions.checkNotNull(multiplier);
+		Preconditions.checkNotNull(roundingMode);
+		return reducedNumerator.multiply(multiplier).divide(reducedDenominator, scale, roundingMode);
 	}
 	
 	/**
@@ -215,7 +332,25 @@ public class Ratio {
 	 */
 	public Ratio times(Ratio multiplier) {
 		Preconditions.checkNotNull(multiplier);
-		return Ratio.of(numerator.multiply(multiplier.numerator), denominator.multiply(multiplier.denominator));
+		BigDecimal productNumerator = numerator.multiply(multiplier.numerator);
+		BigDecimal productDenominator = denominator.multiply(multiplier.denominator);
+		if (reduced && multiplier.reduced) {
+			long n1 = reducedNumerator.longValue();
+			long d1 = reducedDenominator.longValue();
+			long n2 = multiplier.reducedNumerator.longValue();
+			long d2 = multiplier.reducedDenominator.longValue();
+			// 掛ける前に互いの分子と分母で約分し、桁あふれを避ける
+			long gcd1 = LongMath.gcd(Math.abs(n1), d2);
+			long gcd2 = LongMath.gcd(Math.abs(n2), d1);
+			try {
+				return new Ratio(productNumerator, productDenominator, reduce(
+						Math.multiplyExact(n1 / gcd1, n2 / gcd2),
+						Math.multiplyExact(d1 / gcd2, d2 / gcd1)));
+			} catch (ArithmeticException e) {
+				// fall through
+			}
+		}
+		return Ratio.of(productNumerator, productDenominator);
 	}
 	
 	/** この比率の文字列表現を取得する。
@@ -229,4 +364,24 @@ public class Ratio {
 	public String toString() {
 		return numerator.toString() + "/" + denominator;
 	}
+	
+	
+	/**
+	 * {@link Ratio#decimalValue(int, RoundingMode)}の計算結果。
+	 */
+	private static final class DecimalValue {
+		
+		final int scale;
+		
+		final RoundingMode roundingMode;
+		
+		final BigDecimal value;
+		
+		
+		DecimalValue(int scale, RoundingMode roundingMode, BigDecimal value) {
+			this.scale = scale;
+			this.roundingMode = roundingMode;
+			this.value = value;
+		}
+	}
 }
@@ -19,9 +19,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+
+import jp.xet.baseunits.time.TimePoint;
+import jp.xet.baseunits.time.TimePointInterval;
 
 import org.junit.Test;
 
@@ -255,6 +262,100 @@ public class IntervalSequenceTest {
 		assertThat(intervalSequence.toString(), is("[[5, 10], (10, 12]]"));
 	}
 	
+	/**
+	 * {@link IntervalSequence#addAll(Iterable)}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test08_addAll() throws Exception {
+		List<Interval<Integer>> intervals = new ArrayList<Interval<Integer>>();
+		Random random = new Random(0);
+		for (int i = 0; i < 1000; i++) {
+			int lower = random.nextInt(100);
+			intervals.add(Interval.over(lower, random.nextBoolean(), lower + random.nextInt(10), random.nextBoolean()));
+		}
+		for (IntervalSequence<Integer> seq : variousSequences()) {
+			IntervalSequence<Integer> expected = new IntervalSequence<Integer>(seq.comparator);
+			for (Interval<Integer> interval : intervals) {
+				seq.add(interval);
+				expected.intervals.add(interval);
+				Collections.sort(expected.intervals, expected.comparator);
+			}
+			IntervalSequence<Integer> bulk = new IntervalSequence<Integer>(seq.comparator);
+			bulk.addAll(intervals.subList(0, 500));
+			bulk.addAll(intervals.subList(500, 1000));
+			assertThat(seq.intervals, is(expected.intervals));
+			assertThat(bulk.intervals, is(expected.intervals));
+		}
+	}
+	
+	/**
+	 * {@link IntervalSequence#union()}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test09_union() throws Exception {
+		IntervalSequence<Integer> intervalSequence = new IntervalSequence<Integer>();
+		assertThat(intervalSequence.union().isEmpty(), is(true));
+		
+		intervalSequence.addAll(Arrays.asList(o30_35o, c20_25c, o10_12c, c5_10c, o11_20c, Interval.open(35, 40),
+				Interval.open(40, 50), Interval.closed(50, 55), Interval.open(60, 60)));
+		Iterator<Interval<Integer>> it = intervalSequence.union().iterator();
+		assertThat(it.next(), is(Interval.closed(5, 25)));
+		assertThat(it.next(), is(o30_35o));
+		assertThat(it.next(), is(Interval.open(35, 40)));
+		assertThat(it.next(), is(Interval.over(40, false, 55, true)));
+		assertThat(it.hasNext(), is(false));
+		
+		intervalSequence.add(_o18);
+		intervalSequence.add(Interval.andMore(45));
+		it = intervalSequence.union().iterator();
+		assertThat(it.next(), is(Interval.over(null, false, 25, true)));
+		assertThat(it.next(), is(o30_35o));
+		assertThat(it.next(), is(Interval.open(35, 40)));
+		assertThat(it.next(), is(Interval.over(40, false, null, false)));
+		assertThat(it.hasNext(), is(false));
+		
+		intervalSequence.add(all);
+		it = intervalSequence.union().iterator();
+		assertThat(it.next(), is(all));
+		assertThat(it.hasNext(), is(false));
+	}
+	
+	/**
+	 * 限界値が等しいが同一でないインスタンスを含む区間列の{@link IntervalSequence#union()}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test10_unionWithEqualLimitValues() throws Exception {
+		IntervalSequence<TimePoint> intervalSequence = new IntervalSequence<TimePoint>();
+		intervalSequence.add(TimePointInterval.over(TimePoint.from(0), true, TimePoint.from(2000), false));
+		intervalSequence.add(TimePointInterval.closed(TimePoint.from(500), TimePoint.from(2000)));
+		// Interval#equalsは同一でない限界値の開閉を区別しないため、開閉を個別に検証する
+		Iterator<Interval<TimePoint>> it = intervalSequence.union().iterator();
+		Interval<TimePoint> interval = it.next();
+		assertThat(interval.lowerLimit(), is(TimePoint.from(0)));
+		assertThat(interval.upperLimit(), is(TimePoint.from(2000)));
+		assertThat(interval.includesLowerLimit(), is(true));
+		assertThat(interval.includesUpperLimit(), is(true));
+		assertThat(it.hasNext(), is(false));
+		
+		intervalSequence = new IntervalSequence<TimePoint>();
+		intervalSequence.add(TimePointInterval.over(TimePoint.from(1000), false, TimePoint.from(3000), true));
+		intervalSequence.add(TimePointInterval.closed(TimePoint.from(1000), TimePoint.from(2000)));
+		intervalSequence.add(TimePointInterval.over(TimePoint.from(1000), false, TimePoint.from(3000), false));
+		it = intervalSequence.union().iterator();
+		interval = it.next();
+		assertThat(interval.lowerLimit(), is(TimePoint.from(1000)));
+		assertThat(interval.upperLimit(), is(TimePoint.from(3000)));
+		assertThat(interval.includesLowerLimit(), is(true));
+		assertThat(interval.includesUpperLimit(), is(true));
+		assertThat(it.hasNext(), is(false));
+	}
+	
 	@SuppressWarnings("unchecked")
 	private Iterable<IntervalSequence<Integer>> variousSequences() {
 		return Arrays.asList(
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.intervals;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * {@link OverlapDetector}のテストクラス。
+ */
+public class OverlapDetectorTest {
+	
+	/**
+	 * {@link OverlapDetector#overlaps()}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test01_overlaps() throws Exception {
+		List<Interval<Integer>> intervals = Arrays.asList(
+				Interval.closed(5, 10),
+				Interval.open(10, 20),
+				Interval.closed(0, 0),
+				Interval.closed(10, 10),
+				Interval.under(5),
+				Interval.andMore(15));
+		OverlapDetector<Integer> detector = new OverlapDetector<Integer>(intervals);
+		
+		Set<String> actual = new HashSet<String>();
+		for (OverlapDetector.Overlap<Integer> overlap : detector.overlaps()) {
+			assertThat(overlap.getFirst(), is(intervals.get(overlap.getFirstIndex())));
+			assertThat(overlap.getSecond(), is(intervals.get(overlap.getSecondIndex())));
+			actual.add(Math.min(overlap.getFirstIndex(), overlap.getSecondIndex()) + "-"
+					+ Math.max(overlap.getFirstIndex(), overlap.getSecondIndex()));
+		}
+		// 空区間(2)はどの区間とも重ならない。(5, 10]と[10, 20)のような開いた端点同士は重ならない。
+		assertThat(actual, is((Set<String>) new HashSet<String>(Arrays.asList("0-3", "1-5", "2-4"))));
+		
+		assertThat(new OverlapDetector<Integer>(Collections.<Interval<Integer>> emptyList()).overlaps().isEmpty(),
+				is(true));
+	}
+	
+	/**
+	 * ランダムな区間について、{@link OverlapDetector#overlaps()}と{@link OverlapDetector#overlaps(ForkJoinPool)}が
+	 * 総当たりの結果と一致することを確認する。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test02_overlapsRandom() throws Exception {
+		Random random = new Random(1);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int size : new int[] {
+				1,
+				10,
+				500,
+				5000
+			}) {
+				List<Interval<Integer>> intervals = randomIntervals(random, size, size * 2);
+				Set<String> expected = new HashSet<String>();
+				for (int i = 0; i < size; i++) {
+					for (int j = i + 1; j < size; j++) {
+						if (intervals.get(i).intersects(intervals.get(j))) {
+							expected.add(i + "-" + j);
+						}
+					}
+				}
+				
+				OverlapDetector<Integer> detector = new OverlapDetector<Integer>(intervals);
+				List<OverlapDetector.Overlap<Integer>> overlaps = detector.overlaps();
+				Set<String> actual = new HashSet<String>();
+				for (OverlapDetector.Overlap<Integer> overlap : overlaps) {
+					actual.add(Math.min(overlap.getFirstIndex(), overlap.getSecondIndex()) + "-"
+							+ Math.max(overlap.getFirstIndex(), overlap.getSecondIndex()));
+				}
+				assertThat(overlaps.size(), is(expected.size()));
+				assertThat(actual, is(expected));
+				assertThat(detector.overlaps(pool), is(overlaps));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * {@link OverlapDetector#maxConcurrency()}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test03_maxConcurrency() throws Exception {
+		OverlapDetector.Concurrency<Integer> concurrency =
+				new OverlapDetector<Integer>(Collections.<Interval<Integer>> emptyList()).maxConcurrency();
+		assertThat(concurrency.getCount(), is(0));
+		assertThat(concurrency.getInterval(), is(nullValue()));
+		
+		concurrency = new OverlapDetector<Integer>(Arrays.asList(
+				Interval.closed(0, 10),
+				Interval.over(10, false, 20, true),
+				Interval.closed(5, 15),
+				Interval.open(12, 30))).maxConcurrency();
+		assertThat(concurrency.getCount(), is(3));
+		assertThat(concurrency.getInterval(), is(Interval.over(12, false, 15, true)));
+		
+		concurrency = new OverlapDetector<Integer>(Arrays.asList(
+				Interval.closed(0, 10),
+				Interval.closed(10, 20),
+				Interval.under(10),
+				Interval.andMore(10))).maxConcurrency();
+		assertThat(concurrency.getCount(), is(3));
+		assertThat(concurrency.getInterval(), is(Interval.closed(10, 10)));
+		
+		concurrency = new OverlapDetector<Integer>(Arrays.asList(
+				Interval.open(null, null),
+				Interval.andMore(10))).maxConcurrency();
+		assertThat(concurrency.getCount(), is(2));
+		assertThat(concurrency.getInterval(), is(Interval.andMore(10)));
+	}
+	
+	/**
+	 * ランダムな区間について、{@link OverlapDetector#maxConcurrency()}が総当たりの結果と一致することを確認する。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test04_maxConcurrencyRandom() throws Exception {
+		Random random = new Random(2);
+		for (int n = 0; n < 200; n++) {
+			int size = random.nextInt(50) + 1;
+			// 端点を偶数に限ることで、奇数の点で開いた端点の内側を調べられるようにする
+			List<Interval<Integer>> intervals = new ArrayList<Interval<Integer>>();
+			for (Interval<Integer> interval : randomIntervals(random, size, 20)) {
+				intervals.add(interval.newOfSameType(interval.lowerLimit() * 2, interval.includesLowerLimit(),
+						interval.upperLimit() * 2, interval.includesUpperLimit()));
+			}
+			int[] counts = new int[41];
+			int max = 0;
+			for (int point = 0; point <= 40; point++) {
+				for (Interval<Integer> interval : intervals) {
+					if (interval.includes(point)) {
+						counts[point]++;
+					}
+				}
+				max = Math.max(max, counts[point]);
+			}
+			
+			OverlapDetector.Concurrency<Integer> concurrency = new OverlapDetector<Integer>(intervals).maxConcurrency();
+			assertThat(concurrency.getCount(), is(max));
+			if (max > 0) {
+				assertThat(concurrency.getInterval().isEmpty(), is(false));
+				for (int point = 0; point <= 40; point++) {
+					if (concurrency.getInterval().includes(point)) {
+						assertThat(counts[point], is(max));
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 下側限界を降順に並べる{@link IntervalComparatorLowerUpper}を与えた場合、
+	 * {@link IllegalArgumentException}がスローされること。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test05_inverseLower() throws Exception {
+		new OverlapDetector<Integer>(Arrays.asList(Interval.closed(0, 10), Interval.closed(5, 15)),
+				new IntervalComparatorLowerUpper<Integer>(true, false));
+	}
+	
+	private List<Interval<Integer>> randomIntervals(Random random, int size, int range) {
+		List<Interval<Integer>> intervals = new ArrayList<Interval<Integer>>(size);
+		for (int i = 0; i < size; i++) {
+			int lower = random.nextInt(range);
+			int upper = lower + random.nextInt(Math.max(range / 10, 2));
+			intervals.add(Interval.over(lower, random.nextBoolean(), upper, random.nextBoolean()));
+		}
+		return intervals;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.money;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * {@link MoneyAccumulator}のテストクラス。
+ */
+public class MoneyAccumulatorTest {
+	
+	private static final Currency USD = Currency.getInstance("USD");
+	
+	private static final Currency JPY = Currency.getInstance("JPY");
+	
+	
+	/**
+	 * 足し込んだ金額の合計を返すことを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test01_add() throws Exception {
+		MoneyAccumulator accumulator = new MoneyAccumulator();
+		accumulator.add(Money.dollars(new BigDecimal("1.25"))).add(Money.dollars(new BigDecimal("-0.50")));
+		assertThat(accumulator.total(), is(Money.dollars(new BigDecimal("0.75"))));
+		
+		// 合計は何度でも取得でき、その後も足し込める
+		accumulator.add(Money.dollars(1));
+		assertThat(accumulator.total(), is(Money.dollars(new BigDecimal("1.75"))));
+		
+		try {
+			accumulator.add(Money.yens(1));
+			fail();
+		} catch (ClassCastException e) {
+			// success
+		}
+		
+		Locale backup = Locale.getDefault();
+		try {
+			Locale.setDefault(Locale.JAPAN);
+			assertThat(new MoneyAccumulator().total(), is(Money.yens(0)));
+		} finally {
+			Locale.setDefault(backup);
+		}
+	}
+	
+	/**
+	 * 合計が{@code long}の範囲を超えても正しく集計できることを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test02_overflow() throws Exception {
+		MoneyAccumulator accumulator = new MoneyAccumulator();
+		BigDecimal expected = BigDecimal.ZERO;
+		for (int i = 0; i < 10; i++) {
+			accumulator.add(Money.valueOfMinorUnits(Long.MAX_VALUE, JPY));
+			expected = expected.add(BigDecimal.valueOf(Long.MAX_VALUE));
+		}
+		accumulator.add(Money.yens(new BigDecimal("1e30")));
+		expected = expected.add(new BigDecimal("1e30"));
+		assertThat(accumulator.total().breachEncapsulationOfAmount(), is(expected));
+		
+		for (int i = 0; i < 10; i++) {
+			accumulator.add(Money.valueOfMinorUnits(Long.MAX_VALUE, JPY).negated());
+		}
+		accumulator.add(Money.yens(new BigDecimal("-1e30")));
+		assertThat(accumulator.total(), is(Money.yens(0)));
+	}
+	
+	/**
+	 * 通貨単位の異なる量が0の金額の扱いが、{@link Money#plus(Money)}による逐次の加算と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test03_agreesWithPlus() throws Exception {
+		Money[] candidates = {
+			Money.yens(0),
+			Money.yens(100),
+			Money.yens(-100),
+			Money.dollars(0),
+			Money.dollars(new BigDecimal("5.00")),
+			Money.dollars(new BigDecimal("5.50")),
+			Money.valueOf(BigDecimal.ZERO, Currency.getInstance("KRW"))
+		};
+		Random random = new Random(0);
+		for (int i = 0; i < 10000; i++) {
+			List<Money> monies = new ArrayList<Money>();
+			int size = random.nextInt(5) + 1;
+			for (int j = 0; j < size; j++) {
+				monies.add(candidates[random.nextInt(candidates.length)]);
+			}
+			
+			Object expected;
+			try {
+				Money sum = monies.get(0);
+				for (Money money : monies.subList(1, monies.size())) {
+					sum = sum.plus(money);
+				}
+				expected = sum;
+			} catch (RuntimeException e) {
+				expected = e.getClass();
+			}
+			Object actual;
+			try {
+				actual = Money.sum(monies);
+			} catch (RuntimeException e) {
+				actual = e.getClass();
+			}
+			assertThat(monies.toString(), actual, is(expected));
+		}
+	}
+	
+	/**
+	 * 並列ストリームで集計した合計が、逐次の合計と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test04_summing() throws Exception {
+		Random random = new Random(0);
+		List<Money> monies = new ArrayList<Money>();
+		BigDecimal expected = BigDecimal.ZERO;
+		for (int i = 0; i < 100000; i++) {
+			long units = random.nextLong() >> random.nextInt(64);
+			monies.add(Money.valueOfMinorUnits(units, USD));
+			expected = expected.add(BigDecimal.valueOf(units, 2));
+		}
+		assertThat(monies.parallelStream().collect(MoneyAccumulator.summing()).breachEncapsulationOfAmount(),
+				is(expected));
+		assertThat(monies.stream().collect(MoneyAccumulator.summing()), is(Money.sum(monies)));
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.money;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import jp.xet.baseunits.time.CalendarDate;
+
+import org.junit.Test;
+
+/**
+ * {@link MoneyCollectors}のテストクラス。
+ */
+public class MoneyCollectorsTest {
+	
+	private static final Currency USD = Currency.getInstance("USD");
+	
+	private static final Currency JPY = Currency.getInstance("JPY");
+	
+	private static final Currency EUR = Currency.getInstance("EUR");
+	
+	
+	/**
+	 * {@link MoneyCollectors#summingByCurrency()}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test01_summingByCurrency() throws Exception {
+		MoneyBag bag = Stream.of(Money.yens(100), Money.dollars(1.5), Money.yens(-30), Money.euros(2),
+				Money.dollars(0.25))
+			.collect(MoneyCollectors.summingByCurrency());
+		assertThat(bag.get(JPY), is(Money.yens(70)));
+		assertThat(bag.get(USD), is(Money.dollars(1.75)));
+		assertThat(bag.get(EUR), is(Money.euros(2)));
+		assertThat(bag.get(Currency.getInstance("GBP")), is(Money.zero(Currency.getInstance("GBP"))));
+		assertThat(bag.currencies().size(), is(3));
+		assertThat(bag.toString(), is(Arrays.asList(bag.get(EUR), bag.get(JPY), bag.get(USD)).toString()));
+		
+		MoneyBag empty = Stream.<Money> empty().collect(MoneyCollectors.summingByCurrency());
+		assertThat(empty.isEmpty(), is(true));
+		assertThat(empty.asMap().isEmpty(), is(true));
+	}
+	
+	/**
+	 * 並列ストリームで集計した結果が、通貨単位毎の逐次の合計と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test02_parallel() throws Exception {
+		Currency[] currencies = {
+			USD,
+			JPY,
+			EUR
+		};
+		Random random = new Random(0);
+		List<Money> monies = new ArrayList<Money>();
+		Map<Currency, BigDecimal> expected = new HashMap<Currency, BigDecimal>();
+		for (int i = 0; i < 100000; i++) {
+			Currency currency = currencies[random.nextInt(currencies.length)];
+			long units = random.nextInt() - (long) Integer.MIN_VALUE / 2;
+			monies.add(Money.valueOfMinorUnits(units, currency));
+			expected.merge(currency, BigDecimal.valueOf(units, currency.getDefaultFractionDigits()), BigDecimal::add);
+		}
+		MoneyBag bag = monies.parallelStream().collect(MoneyCollectors.summingByCurrency());
+		for (Currency currency : currencies) {
+			assertThat(bag.get(currency).breachEncapsulationOfAmount(), is(expected.get(currency)));
+		}
+		assertThat(monies.stream().collect(MoneyCollectors.summingByCurrency()), is(bag));
+	}
+	
+	/**
+	 * {@link MoneyCollectors#groupingBy(java.util.function.Function, java.util.function.Function)}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test03_groupingBy() throws Exception {
+		CalendarDate day1 = CalendarDate.from(2019, 6, 14);
+		CalendarDate day2 = CalendarDate.from(2019, 6, 15);
+		List<Allotment<CalendarDate>> bookings = Arrays.asList(
+				new Allotment<CalendarDate>(day1, Money.yens(1000)),
+				new Allotment<CalendarDate>(day2, Money.dollars(10)),
+				new Allotment<CalendarDate>(day1, Money.dollars(5)),
+				new Allotment<CalendarDate>(day1, Money.yens(500)));
+		
+		Map<CalendarDate, MoneyBag> totals = bookings.parallelStream()
+			.collect(MoneyCollectors.groupingBy(Allotment::breachEncapsulationOfEntity,
+					Allotment::breachEncapsulationOfAmount));
+		assertThat(totals.size(), is(2));
+		assertThat(totals.get(day1).get(JPY), is(Money.yens(1500)));
+		assertThat(totals.get(day1).get(USD), is(Money.dollars(5)));
+		assertThat(totals.get(day2).currencies().size(), is(1));
+		assertThat(totals.get(day2).get(USD), is(Money.dollars(10)));
+	}
+}
@@ -16,10 +16,14 @@
 package jp.xet.baseunits.money;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 
 import org.junit.Test;
 
@@ -200,4 +204,70 @@ public class MoneyFanTest {
 		assertThat(jack.minus(jack), is(new MoneyFan<String>()));
 	}
 	
+	/**
+	 * {@link MoneyFan#builder()}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test06_Builder() throws Exception {
+		MoneyFan<String> fan = MoneyFan.<String> builder()
+			.add("Jack", Money.dollars(17))
+			.add(new Allotment<String>("Jill", Money.dollars(13)))
+			.add("Jack", Money.dollars(17))
+			.add("Mary", Money.dollars(5))
+			.add("Mary", Money.dollars(-5))
+			.build();
+		
+		Collection<Allotment<String>> c = new ArrayList<Allotment<String>>();
+		c.add(new Allotment<String>("Jack", Money.dollars(34)));
+		c.add(new Allotment<String>("Jill", Money.dollars(13)));
+		assertThat(fan, is(new MoneyFan<String>(c)));
+		assertThat(fan.allotment("Jack"), is(new Allotment<String>("Jack", Money.dollars(34))));
+		assertThat(fan.allotment("Mary"), is(nullValue()));
+		assertThat(MoneyFan.<String> builder().addAll(fan).addAll(fan.negated()).build(), is(new MoneyFan<String>()));
+	}
+	
+	/**
+	 * 多数の割り当て対象を持つ{@link MoneyFan}の加減算テスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test07_PlusManyEntities() throws Exception {
+		MoneyFan.Builder<Integer> evens = MoneyFan.builder();
+		MoneyFan.Builder<Integer> odds = MoneyFan.builder();
+		for (int i = 0; i < 50000; i++) {
+			(i % 2 == 0 ? evens : odds).add(i, Money.yens(i + 1));
+		}
+		MoneyFan<Integer> all = evens.build().plus(odds.build());
+		assertThat(all.allotment(49999), is(new Allotment<Integer>(49999, Money.yens(50000))));
+		assertThat(all.total(), is(Money.yens(50000L * 50001 / 2)));
+		assertThat(all.plus(all).allotment(12345), is(new Allotment<Integer>(12345, Money.yens(24692))));
+		assertThat(all.minus(evens.build()), is(odds.build()));
+	}
+	
+	/**
+	 * {@link MoneyFan#iterator()}が要素の削除をサポートしないこと。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test08_IteratorRemove() throws Exception {
+		MoneyFan<String> single = new MoneyFan<String>(new Allotment<String>("A", Money.dollars(10)));
+		Collection<Allotment<String>> c = new ArrayList<Allotment<String>>();
+		c.add(new Allotment<String>("A", Money.dollars(10)));
+		c.add(new Allotment<String>("B", Money.dollars(20)));
+		for (MoneyFan<String> fan : Arrays.asList(single, new MoneyFan<String>(c))) {
+			Iterator<Allotment<String>> it = fan.iterator();
+			it.next();
+			try {
+				it.remove();
+				fail();
+			} catch (UnsupportedOperationException e) {
+				// success
+			}
+			assertThat(fan.allotment("A"), is(new Allotment<String>("A", Money.dollars(10))));
+		}
+	}
 }
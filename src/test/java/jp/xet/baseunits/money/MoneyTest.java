@@ -18,10 +18,16 @@ package jp.xet.baseunits.money;
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
@@ -29,6 +35,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Currency;
 import java.util.Locale;
+import java.util.Random;
 
 import jp.xet.baseunits.tests.SerializationTester;
 import jp.xet.baseunits.util.Ratio;
@@ -538,4 +545,99 @@ public class MoneyTest {
 		}
 	}
 	
+	/**
+	 * {@link Money#valueOfMinorUnits(long, Currency)}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test30_valueOfMinorUnits() throws Exception {
+		assertThat(Money.valueOfMinorUnits(1234, USD), is(Money.dollars(new BigDecimal("12.34"))));
+		assertThat(Money.valueOfMinorUnits(1234, JPY), is(Money.yens(1234)));
+		assertThat(Money.valueOfMinorUnits(Long.MIN_VALUE, JPY).breachEncapsulationOfAmount(),
+				is(BigDecimal.valueOf(Long.MIN_VALUE)));
+		assertThat(Money.valueOfMinorUnits(-5, USD).toString(Locale.US), is("$ -0.05"));
+		try {
+			Money.valueOfMinorUnits(1, Currency.getInstance("XXX"));
+			fail();
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+	
+	/**
+	 * 最小単位の数による演算結果が、{@link BigDecimal}による演算結果と一致することを確認するテスト。
+	 * 
+	 * <p>{@code long}の範囲の境界付近の量を含め、オーバーフロー時に{@link BigDecimal}へ切り替わることを確認する。</p>
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test31_minorUnitArithmetic() throws Exception {
+		Random random = new Random(0);
+		long[] edges = {
+			0, 1, -1, 999999999999999999L, -999999999999999999L, Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1
+		};
+		for (Currency currency : new Currency[] {
+			JPY,
+			USD
+		}) {
+			int scale = currency.getDefaultFractionDigits();
+			for (int i = 0; i < 10000; i++) {
+				long x = i < edges.length * edges.length ? edges[i / edges.length] : random.nextLong() >> random.nextInt(64);
+				long y = i < edges.length * edges.length ? edges[i % edges.length] : random.nextLong() >> random.nextInt(64);
+				BigDecimal bx = BigDecimal.valueOf(x, scale);
+				BigDecimal by = BigDecimal.valueOf(y, scale);
+				Money mx = Money.valueOfMinorUnits(x, currency);
+				Money my = Money.valueOf(by, currency);
+				
+				assertThat(mx.plus(my).breachEncapsulationOfAmount(), is(bx.add(by)));
+				assertThat(mx.minus(my).breachEncapsulationOfAmount(), is(bx.subtract(by)));
+				assertThat(mx.plus(my).plus(my).minus(my), is(mx.plus(my)));
+				assertThat(mx.times((int) y).breachEncapsulationOfAmount(), is(bx.multiply(BigDecimal.valueOf((int) y))));
+				assertThat(mx.negated().negated(), is(mx));
+				assertThat(mx.abs().breachEncapsulationOfAmount(), is(bx.abs()));
+				assertThat(Integer.signum(mx.compareTo(my)), is(bx.compareTo(by)));
+				assertThat(mx.equals(my), is(bx.equals(by)));
+				assertThat(mx.isNegative(), is(bx.signum() < 0));
+				assertThat(mx.isPositive(), is(bx.signum() > 0));
+				assertThat(mx.isZero(), is(bx.signum() == 0));
+				
+				// 表現の異なる等価な金額は、ハッシュ値も一致する
+				Money big = mx.plus(Money.valueOfMinorUnits(Long.MAX_VALUE, currency)).minus(
+						Money.valueOfMinorUnits(Long.MAX_VALUE, currency));
+				assertThat(big, is(mx));
+				assertThat(big.hashCode(), is(mx.hashCode()));
+				assertThat(big.compareTo(mx), is(0));
+			}
+		}
+		
+		Money max = Money.valueOfMinorUnits(Long.MAX_VALUE, JPY);
+		assertThat(max.plus(Money.yens(1)), is(greaterThan(max)));
+		assertThat(max.negated().minus(Money.yens(2)), is(lessThan(max.negated())));
+		assertThat(max.negated().minus(Money.yens(1)).breachEncapsulationOfAmount(),
+				is(BigDecimal.valueOf(Long.MIN_VALUE)));
+	}
+	
+	/**
+	 * 最小単位の数で表した金額が、{@link BigDecimal}で表した金額としてシリアライズされることを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test32_serializeMinorUnits() throws Exception {
+		Money money = Money.valueOfMinorUnits(1234, USD);
+		SerializationTester.assertCanBeSerialized(money);
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(money);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			Money restored = (Money) in.readObject();
+			assertThat(restored, is(money));
+			assertThat(restored.hashCode(), is(money.hashCode()));
+			assertThat(restored.plus(money), is(Money.valueOfMinorUnits(2468, USD)));
+		}
+	}
 }
@@ -17,6 +17,13 @@ package jp.xet.baseunits.money;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Random;
+
 import jp.xet.baseunits.money.Money;
 import jp.xet.baseunits.money.Proration;
 
@@ -183,4 +190,85 @@ public class ProrationTest {
 		assertThat(Proration.partOfWhole(total, portion, whole), is(Money.dollars(3.33)));
 	}
 	
+	/**
+	 * {@link Proration#proratedUnitsOver(long, long[], long[])}
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test10_ProratedUnitsOver() throws Exception {
+		long[] results = new long[5];
+		long[] proportions = {
+			1,
+			3,
+			1
+		};
+		assertThat(Proration.proratedUnitsOver(52, proportions, results), is(results));
+		assertThat(Arrays.copyOf(results, 3), is(new long[] {
+			11,
+			31,
+			10
+		}));
+		
+		Proration.proratedUnitsOver(-52, proportions, results);
+		assertThat(Arrays.copyOf(results, 3), is(new long[] {
+			-11,
+			-31,
+			-10
+		}));
+		
+		try {
+			Proration.proratedUnitsOver(52, new long[] {
+				1,
+				-1,
+				1
+			}, results);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+		try {
+			Proration.proratedUnitsOver(52, proportions, new long[2]);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+	
+	/**
+	 * 最小単位の数による比例配分が、{@link BigDecimal}による比例配分と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test11_ProratedUnitsAgreesWithBigDecimal() throws Exception {
+		Random random = new Random(0);
+		for (Currency currency : new Currency[] {
+			Currency.getInstance("JPY"),
+			Currency.getInstance("USD")
+		}) {
+			for (int i = 0; i < 5000; i++) {
+				long units = random.nextLong() >> random.nextInt(64);
+				Money total = Money.valueOfMinorUnits(units, currency);
+				long[] proportions = new long[random.nextInt(20) + 1];
+				BigDecimal[] decimalProportions = new BigDecimal[proportions.length];
+				for (int j = 0; j < proportions.length; j++) {
+					proportions[j] = random.nextInt(3) == 0 ? 0 : random.nextLong() >>> random.nextInt(64) + 5;
+					decimalProportions[j] = BigDecimal.valueOf(proportions[j]);
+				}
+				proportions[0]++;
+				decimalProportions[0] = BigDecimal.valueOf(proportions[0]);
+				
+				Money[] expected;
+				try {
+					expected = Proration.proratedOver(total, decimalProportions);
+				} catch (ArrayIndexOutOfBoundsException e) {
+					// BigDecimalによる比例配分は、負の余りを配分できない
+					continue;
+				}
+				String message = total + " " + Arrays.toString(proportions);
+				assertThat(message, Proration.proratedOver(total, proportions), is(expected));
+			}
+		}
+	}
 }
@@ -23,9 +23,12 @@ import java.text.ParseException;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import jp.xet.baseunits.time.spec.DateSpecifications;
+import jp.xet.baseunits.util.spec.Specification;
 
 import org.junit.After;
 import org.junit.Before;
@@ -391,6 +394,105 @@ public class BusinessCalendarTest {
 		assertThat(cal.prevBusinessDay(CalendarDate.from(2012, 2, 20)), is(CalendarDate.from(2012, 2, 17)));
 	}
 	
+	/**
+	 * 営業日数の計算及び営業日の加減算が、暦日を1日ずつ判定した結果と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test15_agreesWithDayByDay() throws Exception {
+		BusinessCalendar fast = japaneseBusinessCalendar();
+		BusinessCalendar dayByDay = new BusinessCalendar() {
+			
+			@Override
+			public boolean isHoliday(CalendarDate day) {
+				return fast.isHoliday(day);
+			}
+		};
+		Random random = new Random(0);
+		for (int i = 0; i < 300; i++) {
+			CalendarDate start = CalendarDate.from(2008, 1, 1).plusDays(random.nextInt(1500));
+			CalendarDate end = start.plusDays(random.nextInt(400));
+			int numberOfDays = random.nextInt(300);
+			CalendarInterval interval = CalendarInterval.inclusive(start, end);
+			assertThat(interval.toString(), fast.getElapsedBusinessDays(interval),
+					is(dayByDay.getElapsedBusinessDays(interval)));
+			assertThat(start + " + " + numberOfDays, fast.plusBusinessDays(start, numberOfDays),
+					is(dayByDay.plusBusinessDays(start, numberOfDays)));
+			assertThat(end + " - " + numberOfDays, fast.minusBusinessDays(end, numberOfDays),
+					is(dayByDay.minusBusinessDays(end, numberOfDays)));
+		}
+	}
+	
+	/**
+	 * 複数のスレッドから同時に索引を作成しても、営業日・休日の判定が仕様と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test16_isBusinessDayConcurrently() throws Exception {
+		BusinessCalendar calendar = japaneseBusinessCalendar();
+		Specification<CalendarDate> holidaySpecs = calendar.holidaySpecs();
+		CalendarDate origin = CalendarDate.from(1990, 1, 1);
+		long mismatches = IntStream.range(0, 365 * 40).parallel()
+			.mapToObj(origin::plusDays)
+			.filter(day -> calendar.isHoliday(day) != holidaySpecs.isSatisfiedBy(day)
+					|| calendar.isBusinessDay(day) != (calendar.isWeekend(day) == false
+							&& holidaySpecs.isSatisfiedBy(day) == false))
+			.count();
+		assertThat(mismatches, is(0L));
+	}
+	
+	/**
+	 * {@link BusinessCalendar#builder()}で生成したインスタンスのテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test17_builder() throws Exception {
+		BusinessCalendar calendar = BusinessCalendar.builder()
+			.addHolidays(_HolidayDates.defaultHolidays())
+			.addHolidaySpec(DateSpecifications.fixed(2, 11))
+			.addHoliday(CalendarDate.from(2005, 3, 21))
+			.build();
+		assertThat(calendar.isHoliday(CalendarDate.from(2004, 11, 25)), is(true));
+		assertThat(calendar.isHoliday(CalendarDate.from(2005, 2, 11)), is(true));
+		assertThat(calendar.isHoliday(CalendarDate.from(2005, 3, 21)), is(true));
+		assertThat(calendar.isHoliday(CalendarDate.from(2005, 3, 22)), is(false));
+		assertThat(calendar.getElapsedBusinessDays(CalendarInterval.month(2004, 11)), is(21));
+		
+		try {
+			calendar.addHoliday(CalendarDate.from(2005, 3, 22));
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// success
+		}
+		try {
+			calendar.replaceHolidaySpecs(DateSpecifications.never());
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// success
+		}
+		assertThat(calendar.isHoliday(CalendarDate.from(2005, 3, 22)), is(false));
+	}
+	
+	/**
+	 * {@link BusinessCalendar#replaceHolidaySpecs(Specification)}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test18_replaceHolidaySpecs() throws Exception {
+		CalendarDate nov25 = CalendarDate.from(2004, 11, 25);
+		CalendarDate nov26 = CalendarDate.from(2004, 11, 26);
+		assertThat(cal.isHoliday(nov25), is(true));
+		
+		cal.replaceHolidaySpecs(DateSpecifications.fixed(nov26));
+		assertThat(cal.isHoliday(nov25), is(false));
+		assertThat(cal.isHoliday(nov26), is(true));
+		assertThat(cal.plusBusinessDays(nov25, 1), is(CalendarDate.from(2004, 11, 29)));
+	}
+	
 	
 	/**
 	 * dates are taken from: http://www.opm.gov/fedhol/index.htm note: when a
@@ -16,11 +16,16 @@
 package jp.xet.baseunits.time;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.Base64;
 import java.util.Calendar;
 import java.util.TimeZone;
 
@@ -369,4 +374,97 @@ public class CalendarDateTest {
 		
 		assertThat(CalendarDate.from(2012, 7, 19).getAge(CalendarDate.from(1978, 3, 4)), is(34L));
 	}
+	
+	/**
+	 * {@link CalendarDate#plusDays(int)}, {@link CalendarDate#nextDay()}, {@link CalendarDate#previousDay()}が
+	 * {@link Calendar}による計算と同じ結果を返すことを検証する。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test24_plusDays_agreesWithCalendar() throws Exception {
+		int[] increments = {
+			-100000, -1461, -366, -365, -31, -1, 0, 1, 28, 29, 30, 365, 366, 1461, 146097, 100000
+		};
+		for (CalendarDate date = CalendarDate.from(1899, 12, 25); date.isBefore(CalendarDate.from(2101, 1, 10)); date =
+				date.plusDays(13)) {
+			for (int increment : increments) {
+				Calendar calendar = date.asJavaCalendarUniversalZoneMidnight();
+				calendar.add(Calendar.DATE, increment);
+				assertThat(date + " + " + increment, date.plusDays(increment), is(CalendarDate.from(calendar)));
+			}
+			Calendar next = date.asJavaCalendarUniversalZoneMidnight();
+			next.add(Calendar.DATE, 1);
+			assertThat(date.nextDay(), is(CalendarDate.from(next)));
+			Calendar prev = date.asJavaCalendarUniversalZoneMidnight();
+			prev.add(Calendar.DATE, -1);
+			assertThat(date.previousDay(), is(CalendarDate.from(prev)));
+		}
+	}
+	
+	/**
+	 * {@link CalendarDate#plusMonths(int)}が{@link Calendar}による計算と同じ結果を返すことを検証する。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test25_plusMonths_agreesWithCalendar() throws Exception {
+		int[] increments = {
+			-1200, -49, -12, -11, -1, 0, 1, 2, 11, 12, 13, 48, 1200
+		};
+		for (CalendarDate date = CalendarDate.from(1899, 12, 25); date.isBefore(CalendarDate.from(2101, 1, 10)); date =
+				date.plusDays(7)) {
+			for (int increment : increments) {
+				Calendar calendar = date.asJavaCalendarUniversalZoneMidnight();
+				calendar.add(Calendar.MONTH, increment);
+				assertThat(date + " + " + increment, date.plusMonths(increment), is(CalendarDate.from(calendar)));
+			}
+		}
+		assertThat(CalendarDate.from(2012, 1, 31).plusMonths(1), is(CalendarDate.from(2012, 2, 29)));
+		assertThat(CalendarDate.from(2011, 3, 31).plusMonths(-1), is(CalendarDate.from(2011, 2, 28)));
+	}
+	
+	/**
+	 * 旧バージョンでシリアライズした{@link CalendarDate}を復元できることを検証する。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test26_deserializeLegacyForm() throws Exception {
+		String legacy = "rO0ABXNyACJqcC54ZXQuYmFzZXVuaXRzLnRpbWUuQ2FsZW5kYXJEYXRlJjF/yIHFygcCAAJMAANkYXl0ACJManAveGV0L2Jhc2V1bml0"
+				+ "cy90aW1lL0RheU9mTW9udGg7TAAJeWVhck1vbnRodAAlTGpwL3hldC9iYXNldW5pdHMvdGltZS9DYWxlbmRhck1vbnRoO3hwc3IAIGpwLnhl"
+				+ "dC5iYXNldW5pdHMudGltZS5EYXlPZk1vbnRoqTNsiu3eQ2YCAAFJAAV2YWx1ZXhwAAAAEXNyACNqcC54ZXQuYmFzZXVuaXRzLnRpbWUuQ2Fs"
+				+ "ZW5kYXJNb250aFssBO5vQqBMAgACSQAEeWVhckwABW1vbnRodAAjTGpwL3hldC9iYXNldW5pdHMvdGltZS9Nb250aE9mWWVhcjt4cAAAB9N+"
+				+ "cgAhanAueGV0LmJhc2V1bml0cy50aW1lLk1vbnRoT2ZZZWFyAAAAAAAAAAASAAB4cgAOamF2YS5sYW5nLkVudW0AAAAAAAAAABIAAHhwdAAD"
+				+ "RkVC";
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(legacy)));
+		try {
+			assertThat(in.readObject(), is((Object) feb17));
+		} finally {
+			in.close();
+		}
+	}
+	
+	/**
+	 * {@link CalendarDate#configureCache(int)}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test27_configureCache() throws Exception {
+		CalendarDate today = CalendarDate.from(TimePoint.from(System.currentTimeMillis()), UTC);
+		try {
+			CalendarDate.configureCache(10);
+			assertThat(CalendarDate.from(today.getYear(), today.getMonthOfYear().value, today.getDayOfMonth().value),
+					is(sameInstance(today.nextDay().previousDay())));
+			assertThat(today.plusDays(100), is(not(sameInstance(today.plusDays(100)))));
+			assertThat(today.plusDays(100), is(today.plusDays(100)));
+			
+			CalendarDate.configureCache(0);
+			assertThat(today.nextDay(), is(not(sameInstance(today.nextDay()))));
+			assertThat(today.nextDay(), is(today.nextDay()));
+		} finally {
+			CalendarDate.configureCache(CalendarDate.DEFAULT_CACHE_WINDOW_DAYS);
+		}
+	}
 }
@@ -19,10 +19,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
 import java.util.TimeZone;
+import java.util.stream.Collectors;
 
 import jp.xet.baseunits.intervals.Interval;
 import jp.xet.baseunits.tests.SerializationTester;
@@ -590,4 +596,93 @@ public class CalendarIntervalTest {
 		assertThat(intersect.lowerLimit(), is(CalendarDate.from(2012, 3, 4)));
 		assertThat(intersect.upperLimit(), is(CalendarDate.from(2012, 3, 23)));
 	}
+	
+	/**
+	 * {@link CalendarInterval#lengthInDaysInt()}, {@link CalendarInterval#lengthInMonthsInt()}が
+	 * 任意の期間について暦通りの日数・月数を返すこと。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test22_lengthInArbitraryInterval() throws Exception {
+		Random random = new Random(0);
+		long base = LocalDate.of(1600, 1, 1).toEpochDay();
+		for (int i = 0; i < 10000; i++) {
+			LocalDate start = LocalDate.ofEpochDay(base + random.nextInt(200000));
+			LocalDate end = start.plusDays(random.nextInt(random.nextBoolean() ? 100 : 20000));
+			CalendarInterval interval = CalendarInterval.inclusive(
+					CalendarDate.from(start.getYear(), start.getMonthValue(), start.getDayOfMonth()),
+					CalendarDate.from(end.getYear(), end.getMonthValue(), end.getDayOfMonth()));
+			LocalDate next = end.plusDays(1);
+			String message = interval.toString();
+			assertThat(message, interval.lengthInDaysInt(), is((int) ChronoUnit.DAYS.between(start, next)));
+			assertThat(message, interval.lengthInMonthsInt(),
+					is((next.getYear() - start.getYear()) * 12 + next.getMonthValue() - start.getMonthValue()));
+		}
+		assertThat(CalendarInterval.inclusive(CalendarDate.from(2012, 1, 31), CalendarDate.from(2012, 2, 28))
+			.lengthInMonthsInt(), is(1));
+		assertThat(CalendarInterval.inclusive(CalendarDate.from(2012, 1, 31), CalendarDate.from(2012, 2, 29))
+			.lengthInMonthsInt(), is(2));
+		assertThat(CalendarInterval.inclusive(CalendarDate.from(2011, 12, 31), CalendarDate.from(2011, 12, 31))
+			.lengthInDaysInt(), is(1));
+	}
+	
+	/**
+	 * {@link CalendarInterval#days()}, {@link CalendarInterval#epochDays()}, {@link CalendarInterval#months()},
+	 * {@link CalendarInterval#subintervals(Duration)}, {@link CalendarInterval#weeks()}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test23_streams() throws Exception {
+		CalendarInterval interval = CalendarInterval.inclusive(2009, 12, 28, 2011, 2, 3);
+		
+		List<CalendarDate> days = new ArrayList<CalendarDate>();
+		interval.daysIterator().forEachRemaining(days::add);
+		assertThat(interval.days().collect(Collectors.toList()), is(days));
+		assertThat(interval.days().parallel().collect(Collectors.toList()), is(days));
+		assertThat(interval.epochDays().count(), is((long) interval.lengthInDaysInt()));
+		assertThat(interval.epochDays().parallel().sum(), is(days.stream().mapToLong(CalendarDate::toEpochDay).sum()));
+		
+		Spliterator<CalendarDate> spliterator = interval.days().spliterator();
+		assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), is(true));
+		assertThat(spliterator.estimateSize(), is(403L));
+		Spliterator<CalendarDate> prefix = spliterator.trySplit();
+		assertThat(prefix.estimateSize() + spliterator.estimateSize(), is(403L));
+		
+		List<CalendarMonth> months = new ArrayList<CalendarMonth>();
+		interval.monthsIterator().forEachRemaining(months::add);
+		assertThat(interval.months().collect(Collectors.toList()), is(months));
+		assertThat(interval.months().parallel().collect(Collectors.toList()), is(months));
+		
+		List<CalendarWeek> weeks = new ArrayList<CalendarWeek>();
+		interval.weeksIterator().forEachRemaining(weeks::add);
+		assertThat(interval.weeks().collect(Collectors.toList()), is(weeks));
+		assertThat(interval.weeks().parallel().collect(Collectors.toList()), is(weeks));
+		
+		for (Duration length : new Duration[] {
+			Duration.days(1),
+			Duration.days(10),
+			Duration.weeks(1),
+			Duration.months(1),
+			Duration.months(5)
+		}) {
+			List<CalendarInterval> subintervals = new ArrayList<CalendarInterval>();
+			interval.subintervalIterator(length).forEachRemaining(subintervals::add);
+			assertThat(interval.subintervals(length).collect(Collectors.toList()), is(subintervals));
+			assertThat(interval.subintervals(length).parallel().collect(Collectors.toList()), is(subintervals));
+		}
+		assertThat(interval.subintervals(Duration.days(10)).spliterator().getExactSizeIfKnown(), is(40L));
+		
+		assertThat(CalendarInterval.empty().days().count(), is(0L));
+		assertThat(CalendarInterval.empty().months().count(), is(0L));
+		assertThat(CalendarInterval.empty().weeks().count(), is(0L));
+		assertThat(CalendarInterval.empty().subintervals(Duration.days(1)).count(), is(0L));
+		try {
+			CalendarInterval.everFrom(CalendarDate.EPOCH_DATE).days();
+			fail();
+		} catch (IllegalStateException e) {
+			// success
+		}
+	}
 }
@@ -22,6 +22,9 @@ import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.fail;
 
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
 import org.junit.Test;
 
 /**
@@ -221,4 +224,27 @@ public class CalendarWeekTest {
 		assertThat(WK_2013_2ND.plusWeeks(-1).plusWeeks(-1), is(WK_2012_52ND));
 		assertThat(WK_2013_2ND.plusWeeks(-2), is(WK_2012_52ND));
 	}
+	
+	/**
+	 * {@link CalendarWeek#from(CalendarDate)}がISO 8601の週番号と一致すること。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test12_isoWeek() throws Exception {
+		long end = LocalDate.of(2101, 1, 1).toEpochDay();
+		for (long epochDay = LocalDate.of(1899, 12, 1).toEpochDay(); epochDay < end; epochDay++) {
+			LocalDate expected = LocalDate.ofEpochDay(epochDay);
+			CalendarDate date = CalendarDate.from(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth());
+			CalendarWeek week = date.asCalendarWeek();
+			assertThat(date.toString(), week, is(CalendarWeek.from(expected.get(IsoFields.WEEK_BASED_YEAR),
+					expected.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR))));
+			assertThat(date.toString(), week.at(date.dayOfWeek()), is(date));
+			assertThat(date.toString(), week.plusWeeks(-3).plusWeeks(3), is(week));
+		}
+		assertThat(CalendarWeek.from(2016, 1).at(DayOfWeek.MONDAY), is(CalendarDate.from(2016, 1, 4)));
+		assertThat(CalendarWeek.from(2015, 53).getLastDay(), is(CalendarDate.from(2016, 1, 3)));
+		assertThat(CalendarWeek.from(2015, 53).nextWeek(), is(CalendarWeek.from(2016, 1)));
+		assertThat(CalendarWeek.from(2019, 53).at(DayOfWeek.MONDAY), is(CalendarDate.from(2019, 12, 30)));
+	}
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * {@link CompiledDateFormat}のテストクラス。
+ */
+public class CompiledDateFormatTest {
+	
+	private static final String[] PATTERNS = {
+		"yyyy-MM-dd",
+		"yyyy-MM",
+		TimePoint.ISO8601_FORMAT_UNIVERSAL,
+		"yyyy/MM/dd HH:mm:ss.SSS zzz"
+	};
+	
+	private static final String[] ZONES = {
+		"UTC",
+		"Asia/Tokyo",
+		"America/New_York",
+		"Europe/London",
+		"Australia/Lord_Howe"
+	};
+	
+	
+	/**
+	 * {@link CompiledDateFormat#of(String, Locale, TimeZone)}がキャッシュしたインスタンスを返すことを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test01_of() throws Exception {
+		TimeZone zone = TimeZone.getTimeZone("Asia/Tokyo");
+		CompiledDateFormat format = CompiledDateFormat.of("yyyy-MM-dd", Locale.JAPAN, zone);
+		assertThat(CompiledDateFormat.of("yyyy-MM-dd", Locale.JAPAN, TimeZone.getTimeZone("Asia/Tokyo")),
+				is(sameInstance(format)));
+		
+		// キャッシュしたインスタンスは、元のTimeZoneの変更の影響を受けない
+		zone.setRawOffset(0);
+		assertThat(format.format(TimePoint.atUTC(2019, 6, 15, 20, 0)), is("2019-06-16"));
+		
+		try {
+			CompiledDateFormat.of("yyyy-MM-dd qqq", Locale.JAPAN, zone);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+	
+	/**
+	 * 整形結果が{@link SimpleDateFormat}と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test02_formatAgreesWithSimpleDateFormat() throws Exception {
+		Random random = new Random(0);
+		for (String pattern : PATTERNS) {
+			for (String id : ZONES) {
+				TimeZone zone = TimeZone.getTimeZone(id);
+				SimpleDateFormat expected = CalendarUtil.newSimpleDateFormat(pattern, Locale.US, zone);
+				CompiledDateFormat actual = CompiledDateFormat.of(pattern, Locale.US, zone);
+				for (int i = 0; i < 2000; i++) {
+					// 西暦1年頃から西暦10000年過ぎまで
+					long millis = (long) ((random.nextDouble() - 0.5) * 2 * 253402300800000L);
+					assertThat(pattern + " " + id + " " + millis, actual.format(TimePoint.from(millis)),
+							is(expected.format(new Date(millis))));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 解析結果が{@link SimpleDateFormat}と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test03_parseAgreesWithSimpleDateFormat() throws Exception {
+		String[] texts = {
+			"2019-06-15",
+			"2019-02-29",
+			"2019-13-01",
+			"2019-6-5",
+			"2019-06-15x",
+			"0099-06-15",
+			"2019-06",
+			"2019-00",
+			"2019-06-15T12:34:56Z",
+			"2019-06-15T24:00:00Z",
+			"2019-03-10T02:30:00Z",
+			"2019-11-03T01:30:00Z"
+		};
+		for (String pattern : PATTERNS) {
+			for (String id : ZONES) {
+				TimeZone zone = TimeZone.getTimeZone(id);
+				SimpleDateFormat expected = CalendarUtil.newSimpleDateFormat(pattern, Locale.US, zone);
+				CompiledDateFormat actual = CompiledDateFormat.of(pattern, Locale.US, zone);
+				for (String text : texts) {
+					String message = pattern + " " + id + " " + text;
+					Date date;
+					try {
+						date = expected.parse(text);
+					} catch (ParseException e) {
+						try {
+							actual.parse(text);
+							fail(message);
+						} catch (ParseException e2) {
+							// success
+						}
+						continue;
+					}
+					assertThat(message, actual.parse(text).toEpochMillisec(), is(date.getTime()));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 複数のスレッドから同時に利用できることを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test04_concurrent() throws Exception {
+		CompiledDateFormat format = CompiledDateFormat.of("yyyy/MM/dd HH:mm:ss.SSS", Locale.US, TimeZone.getTimeZone("Asia/Tokyo"));
+		long mismatches = IntStream.range(0, 100000).parallel()
+			.filter(i -> {
+				TimePoint timePoint = TimePoint.from(i * 86400123L);
+				try {
+					return format.parse(format.format(timePoint)).equals(timePoint) == false;
+				} catch (ParseException e) {
+					return true;
+				}
+			})
+			.count();
+		assertThat(mismatches, is(0L));
+	}
+	
+	/**
+	 * 配列を直接読み書きした結果が、文字列を用いた場合と一致することを確認するテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test05_charArray() throws Exception {
+		Random random = new Random(0);
+		for (String pattern : PATTERNS) {
+			CompiledDateFormat format = CompiledDateFormat.of(pattern, Locale.US, TimeZone.getTimeZone("Asia/Tokyo"));
+			char[] buffer = new char[40];
+			for (int i = 0; i < 2000; i++) {
+				long millis = (long) ((random.nextDouble() - 0.5) * 2 * 253402300800000L);
+				TimePoint timePoint = TimePoint.from(millis);
+				String expected = format.format(timePoint);
+				int length = format.format(timePoint, buffer, 3);
+				if (length >= 0) {
+					assertThat(new String(buffer, 3, length), is(expected));
+				}
+				
+				char[] text = ("[" + expected + "]").toCharArray();
+				assertThat(format.parse(text, 1, expected.length()), is(format.parse(expected)));
+			}
+		}
+		
+		CompiledDateFormat format = CompiledDateFormat.of("yyyy-MM-dd", Locale.US, TimeZone.getTimeZone("UTC"));
+		// 直接書き出せない場合は、配列を変更せずに-1を返す
+		assertThat(format.format(TimePoint.atMidnightUTC(2019, 6, 15), new char[9], 0), is(-1));
+		assertThat(format.format(TimePoint.atMidnightUTC(2019, 6, 15), new char[12], 3), is(-1));
+		assertThat(format.format(TimePoint.atMidnightUTC(10000, 6, 15), new char[10], 0), is(-1));
+		assertThat(format.format(TimePoint.atMidnightUTC(2019, 6, 15), new char[10], 0), is(10));
+		assertThat(CompiledDateFormat.of("yyyy/MM/dd", Locale.US, TimeZone.getTimeZone("UTC"))
+			.format(TimePoint.atMidnightUTC(2019, 6, 15), new char[40], 0), is(-1));
+		
+		try {
+			format.parse("2019-0x-15".toCharArray(), 0, 10);
+			fail();
+		} catch (ParseException e) {
+			// success
+		}
+	}
+}
@@ -23,6 +23,7 @@ import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Calendar;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -524,4 +525,39 @@ public class DurationTest {
 				is(TimePointInterval.over(TimePoint.at(2012, 2, 3, 3, 53, TimeZone.getTimeZone("Japan")),
 						TimePoint.at(2012, 2, 24, 3, 53, TimeZone.getTimeZone("Japan")))));
 	}
+	
+	/**
+	 * {@link Duration#addedTo(CalendarDate)}, {@link Duration#subtractedFrom(CalendarDate)}が
+	 * {@link Calendar}による計算と同じ結果を返すことを検証する。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test27_addedTo_subtractedFrom_CalendarDate_agreesWithCalendar() throws Exception {
+		Duration[] durations = {
+			Duration.hours(30),
+			Duration.days(0),
+			Duration.days(1),
+			Duration.days(400),
+			Duration.weeks(3),
+			Duration.weeks(60),
+			Duration.months(1),
+			Duration.months(25),
+			Duration.quarters(3),
+			Duration.years(4)
+		};
+		for (CalendarDate date = CalendarDate.from(1950, 1, 1); date.isBefore(CalendarDate.from(2050, 1, 1)); date =
+				date.plusDays(11)) {
+			for (Duration duration : durations) {
+				Calendar added = date.asJavaCalendarUniversalZoneMidnight();
+				Calendar subtracted = date.asJavaCalendarUniversalZoneMidnight();
+				if (duration.unit.compareTo(TimeUnit.day) >= 0) {
+					duration.addAmountToCalendar(duration.inBaseUnits(), added);
+					duration.subtractAmountFromCalendar(duration.inBaseUnits(), subtracted);
+				}
+				assertThat(date + " + " + duration, duration.addedTo(date), is(CalendarDate.from(added)));
+				assertThat(date + " - " + duration, duration.subtractedFrom(date), is(CalendarDate.from(subtracted)));
+			}
+		}
+	}
 }
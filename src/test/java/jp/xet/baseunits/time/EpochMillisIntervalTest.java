@@ -0,0 +1,144 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import jp.xet.baseunits.tests.SerializationTester;
+
+import org.junit.Test;
+
+/**
+ * {@link EpochMillisInterval}のテストクラス。
+ */
+public class EpochMillisIntervalTest {
+	
+	private static List<TimePointInterval> randomIntervals() {
+		Random random = new Random(0);
+		List<TimePointInterval> intervals = new ArrayList<TimePointInterval>();
+		for (int i = 0; i < 200; i++) {
+			long start = random.nextInt(20);
+			long end = start + random.nextInt(5);
+			TimePoint lower = random.nextInt(10) == 0 ? null : TimePoint.from(start);
+			TimePoint upper = random.nextInt(10) == 0 ? null : TimePoint.from(end);
+			intervals.add(TimePointInterval.over(lower, random.nextBoolean(), upper, random.nextBoolean()));
+		}
+		return intervals;
+	}
+	
+	
+	/**
+	 * {@link EpochMillisInterval}のインスタンスがシリアライズできるかどうか検証する。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test01_Serialization() throws Exception {
+		SerializationTester.assertCanBeSerialized(EpochMillisInterval.over(10, 20));
+		SerializationTester.assertCanBeSerialized(EpochMillisInterval.EMPTY);
+	}
+	
+	/**
+	 * {@link TimePointInterval}との相互変換のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test02_conversion() throws Exception {
+		for (TimePointInterval interval : randomIntervals()) {
+			EpochMillisInterval converted = EpochMillisInterval.from(interval);
+			assertThat(interval.toString(), converted.asTimePointInterval(), is(interval));
+			assertThat(interval.toString(), converted.toString(), is(interval.toString()));
+			assertThat(interval.toString(), converted.isEmpty(), is(interval.isEmpty()));
+			assertThat(interval.toString(), converted.hasLowerLimit(), is(interval.hasLowerLimit()));
+			assertThat(interval.toString(), converted.hasUpperLimit(), is(interval.hasUpperLimit()));
+			assertThat(interval.toString(), converted.includesLowerLimit(), is(interval.includesLowerLimit()));
+			assertThat(interval.toString(), converted.includesUpperLimit(), is(interval.includesUpperLimit()));
+		}
+		assertThat(EpochMillisInterval.over(5, false, 5, true), is(EpochMillisInterval.closed(5, 5)));
+		assertThat(EpochMillisInterval.open(5, 5), is(EpochMillisInterval.EMPTY));
+		assertThat(EpochMillisInterval.everFrom(5).asTimePointInterval(),
+				is(TimePointInterval.everFrom(TimePoint.from(5))));
+		assertThat(EpochMillisInterval.everPreceding(5).asTimePointInterval(),
+				is(TimePointInterval.everPreceding(TimePoint.from(5))));
+		try {
+			EpochMillisInterval.over(6, 5);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+		try {
+			EpochMillisInterval.everFrom(5).end();
+			fail();
+		} catch (IllegalStateException e) {
+			// success
+		}
+	}
+	
+	/**
+	 * {@link EpochMillisInterval#includes(long)}、{@link EpochMillisInterval#intersects(EpochMillisInterval)}、
+	 * {@link EpochMillisInterval#intersect(EpochMillisInterval)}及び{@link EpochMillisInterval#covers(EpochMillisInterval)}が
+	 * {@link TimePointInterval}と同じ結果を返すこと。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test03_sameAsTimePointInterval() throws Exception {
+		List<TimePointInterval> intervals = randomIntervals();
+		for (TimePointInterval a : intervals) {
+			EpochMillisInterval x = EpochMillisInterval.from(a);
+			for (long millis = -1; millis <= 25; millis++) {
+				assertThat(a + " " + millis, x.includes(millis), is(a.includes(TimePoint.from(millis))));
+			}
+			for (TimePointInterval b : intervals) {
+				EpochMillisInterval y = EpochMillisInterval.from(b);
+				String message = a + " " + b;
+				assertThat(message, x.intersects(y), is(a.intersects(b)));
+				if (a.intersects(b) == false) {
+					assertThat(message, x.intersect(y).isEmpty(), is(true));
+				} else if ((a.hasLowerLimit() || b.hasLowerLimit()) && (a.hasUpperLimit() || b.hasUpperLimit())) {
+					// Interval#intersect 及び Interval#covers は、両方の区間が同じ側の限界を持たない場合を扱えない
+					assertThat(message, x.intersect(y).asTimePointInterval(), is(a.intersect(b)));
+					if (a.hasLowerLimit() && a.hasUpperLimit() && b.hasLowerLimit() && b.hasUpperLimit()) {
+						assertThat(message, x.covers(y), is(a.covers(b)));
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 共通部分が一方の期間と一致する場合は、その期間自体を返すこと。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test04_intersectReturnsOperand() throws Exception {
+		EpochMillisInterval outer = EpochMillisInterval.over(0, 100);
+		EpochMillisInterval inner = EpochMillisInterval.closed(10, 20);
+		assertThat(outer.intersect(inner), is(sameInstance(inner)));
+		assertThat(inner.intersect(outer), is(sameInstance(inner)));
+		assertThat(outer.intersect(EpochMillisInterval.over(50, 150)), is(EpochMillisInterval.over(50, 100)));
+		assertThat(outer.intersect(EpochMillisInterval.everFrom(100)), is(EpochMillisInterval.EMPTY));
+	}
+}
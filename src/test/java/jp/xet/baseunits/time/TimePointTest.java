@@ -23,6 +23,8 @@ import static org.junit.Assert.fail;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Random;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
 import jp.xet.baseunits.tests.SerializationTester;
@@ -390,6 +392,63 @@ public class TimePointTest {
 		assertThat(tp.toEpochMillisec(), is(257810122123L));
 	}
 	
+	/**
+	 * {@link TimePoint#asCalendarDate(TimeZone)}, {@link TimePoint#asTimeOfDay(TimeZone)},
+	 * {@link TimePoint#backToMidnight(TimeZone)}, {@link TimePoint#at(int, int, int, int, int, int, int, TimeZone)}が
+	 * 夏時間の切り替わりを含めて{@link Calendar}による計算と同じ結果を返すことを検証する。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test22_agreesWithCalendar() throws Exception {
+		String[] ids = {
+			"Universal", "Asia/Tokyo", "America/Los_Angeles", "America/Sao_Paulo", "Europe/London", "Europe/Dublin",
+			"Australia/Lord_Howe", "Pacific/Apia", "Asia/Kathmandu", "EST", "GMT+09:30"
+		};
+		TimeZone[] zones = new TimeZone[ids.length + 1];
+		for (int i = 0; i < ids.length; i++) {
+			zones[i] = TimeZone.getTimeZone(ids[i]);
+		}
+		zones[ids.length] = new SimpleTimeZone(3600000, "Custom", Calendar.MARCH, 1, 0, 0,
+				Calendar.OCTOBER, 1, 0, 0);
+		
+		Random random = new Random(1);
+		for (TimeZone zone : zones) {
+			for (int i = 0; i < 2000; i++) {
+				long millis = (long) ((random.nextDouble() - 0.7) * 200 * 365 * 86400000L);
+				if (i % 2 == 0) {
+					// 切り替わりが起きやすい正時に寄せる
+					millis = millis / 3600000 * 3600000;
+				}
+				TimePoint point = TimePoint.from(millis);
+				Calendar calendar = point.asJavaCalendar(zone);
+				
+				CalendarDate date = point.asCalendarDate(zone);
+				assertThat(zone.getID() + " " + millis, date, is(CalendarDate.from(calendar)));
+				assertThat(zone.getID() + " " + millis, point.asTimeOfDay(zone),
+						is(TimeOfDay.from(calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE),
+								calendar.get(Calendar.SECOND), calendar.get(Calendar.MILLISECOND))));
+				
+				Calendar midnight = CalendarUtil.newCalendar(zone);
+				midnight.setTimeInMillis(millis);
+				midnight.set(Calendar.HOUR_OF_DAY, 0);
+				midnight.set(Calendar.MINUTE, 0);
+				midnight.set(Calendar.SECOND, 0);
+				midnight.set(Calendar.MILLISECOND, 0);
+				assertThat(zone.getID() + " " + millis, point.backToMidnight(zone), is(TimePoint.valueOf(midnight)));
+				
+				int hour = random.nextInt(24);
+				int minute = random.nextInt(4) * 15;
+				Calendar local = CalendarUtil.newCalendar(zone);
+				local.set(date.getYear(), date.getMonthOfYear().value - 1, date.getDayOfMonth().value, hour, minute, 0);
+				assertThat(zone.getID() + " " + date + " " + hour + ":" + minute,
+						TimePoint.at(date.getYear(), date.getMonthOfYear().value, date.getDayOfMonth().value, hour,
+								minute, 0, 0, zone),
+						is(TimePoint.valueOf(local)));
+			}
+		}
+	}
+	
 	private Date javaUtilDateDec20_2003() {
 		Calendar calendar = Calendar.getInstance(UTC);
 		calendar.clear(); // non-deterministic without this!!!
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2010-2019 Miyamoto Daisuke.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.xet.baseunits.time.spec;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import jp.xet.baseunits.time.CalendarDate;
+import jp.xet.baseunits.time.CalendarInterval;
+import jp.xet.baseunits.time.DayOfWeek;
+import jp.xet.baseunits.time.MonthOfYear;
+
+import org.junit.Test;
+
+/**
+ * {@link CompiledDateSpecification}のテストクラス。
+ */
+public class CompiledDateSpecificationTest {
+	
+	private static List<CalendarDate> toList(Iterator<CalendarDate> it) {
+		List<CalendarDate> result = new ArrayList<CalendarDate>();
+		while (it.hasNext()) {
+			result.add(it.next());
+		}
+		return result;
+	}
+	
+	
+	/**
+	 * 元の暦日仕様と同じ判定結果・探索結果を返すこと。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test01_sameAsOriginal() throws Exception {
+		DateSpecification weekend = DateSpecifications.dayOfWeek(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+		DateSpecification holidays = DateSpecifications.fixed(1, 1)
+			.or(DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.JAN, DayOfWeek.MONDAY, 2))
+			.or(DateSpecifications.fixed(2, 29))
+			.or(DateSpecifications.fixed(12, 31));
+		DateSpecification[] specs = {
+			weekend.or(holidays),
+			weekend.or(holidays).not(),
+			DateSpecifications.fixed(31).and(weekend),
+			DateSpecifications.never()
+		};
+		CalendarInterval interval = CalendarInterval.inclusive(2003, 12, 20, 2008, 3, 10);
+		for (DateSpecification spec : specs) {
+			DateSpecification compiled = DateSpecifications.compile(spec);
+			Iterator<CalendarDate> days = interval.daysIterator();
+			while (days.hasNext()) {
+				CalendarDate date = days.next();
+				assertThat(date.toString(), compiled.isSatisfiedBy(date), is(spec.isSatisfiedBy(date)));
+				assertThat(date.toString(), compiled.nextOccurrence(date, interval.end()),
+						is(spec.nextOccurrence(date, interval.end())));
+				assertThat(date.toString(), compiled.previousOccurrence(date, interval.start()),
+						is(spec.previousOccurrence(date, interval.start())));
+			}
+			assertThat(toList(compiled.iterateOver(interval)), is(toList(spec.iterateOver(interval))));
+			assertThat(compiled.firstOccurrenceIn(interval), is(spec.firstOccurrenceIn(interval)));
+			assertThat(compiled.lastOccurrenceIn(interval), is(spec.lastOccurrenceIn(interval)));
+		}
+	}
+	
+	/**
+	 * 上限・下限を指定しない探索が、キャッシュした年の外まで及ぶこと。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test02_unbounded() throws Exception {
+		DateSpecification leapDay = DateSpecifications.compile(DateSpecifications.fixed(2, 29));
+		CalendarDate date = CalendarDate.from(2019, 6, 15);
+		assertThat(leapDay.nextOccurrence(date, null), is(CalendarDate.from(2020, 2, 29)));
+		assertThat(leapDay.previousOccurrence(date, null), is(CalendarDate.from(2016, 2, 29)));
+		assertThat(leapDay.nextOccurrence(CalendarDate.from(2096, 3, 1), null), is(CalendarDate.from(2104, 2, 29)));
+		assertThat(leapDay.nextOccurrence(date, CalendarDate.from(2020, 2, 28)), is(nullValue()));
+		
+		DateSpecification never = DateSpecifications.compile(DateSpecifications.never());
+		assertThat(never.nextOccurrence(date, null), is(nullValue()));
+		assertThat(never.previousOccurrence(date, null), is(nullValue()));
+	}
+	
+	/**
+	 * コンパイル済みの暦日仕様を再度コンパイルしても、同じインスタンスを返すこと。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test03_compileTwice() throws Exception {
+		DateSpecification compiled = DateSpecifications.compile(DateSpecifications.fixed(1, 1));
+		assertThat(DateSpecifications.compile(compiled), is(sameInstance(compiled)));
+	}
+}
@@ -21,7 +21,13 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import jp.xet.baseunits.time.CalendarDate;
@@ -195,4 +201,149 @@ public class DateSpecificationTest {
 			// success
 		}
 	}
+	
+	/**
+	 * {@link DateSpecification#nextOccurrence(CalendarDate, CalendarDate)},
+	 * {@link DateSpecification#previousOccurrence(CalendarDate, CalendarDate)}及びそれを用いた探索の結果が、
+	 * {@link DateSpecification#isSatisfiedBy(CalendarDate)}を1日ずつ検証した結果と一致すること。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test08_nextOccurrence() throws Exception {
+		DateSpecification tuesday = DateSpecifications.dayOfWeek(DayOfWeek.TUESDAY);
+		DateSpecification weekend = DateSpecifications.dayOfWeek(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+		DateSpecification leapDay = DateSpecifications.fixed(2, 29);
+		DateSpecification day31 = DateSpecifications.fixed(31);
+		DateSpecification fifthFriday = DateSpecifications.nthOccuranceOfWeekdayInEveryMonth(DayOfWeek.FRIDAY, 5);
+		DateSpecification thanksgiving =
+				DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.NOV, DayOfWeek.THURSDAY, 4);
+		DateSpecification[] specs = {
+			tuesday,
+			weekend.not(),
+			leapDay,
+			leapDay.and(weekend),
+			day31.and(tuesday),
+			day31.or(fifthFriday),
+			fifthFriday.and(weekend.not()).or(thanksgiving),
+			thanksgiving.or(DateSpecifications.fixed(CalendarDate.from(2005, 3, 3))),
+			DateSpecifications.calendarInterval(CalendarInterval.inclusive(2004, 3, 1, 2004, 4, 15)).and(tuesday),
+			DateSpecifications.always(),
+			DateSpecifications.never(),
+			tuesday.and(weekend)
+		};
+		CalendarInterval interval = CalendarInterval.inclusive(2003, 12, 20, 2008, 3, 10);
+		for (DateSpecification spec : specs) {
+			List<CalendarDate> expected = new ArrayList<CalendarDate>();
+			Iterator<CalendarDate> days = interval.daysIterator();
+			while (days.hasNext()) {
+				CalendarDate date = days.next();
+				if (spec.isSatisfiedBy(date)) {
+					expected.add(date);
+				}
+			}
+			List<CalendarDate> actual = new ArrayList<CalendarDate>();
+			Iterator<CalendarDate> it = spec.iterateOver(interval);
+			while (it.hasNext()) {
+				actual.add(it.next());
+			}
+			String message = spec.toString();
+			assertThat(message, actual, is(expected));
+			assertThat(message, spec.firstOccurrenceIn(interval), is(expected.isEmpty() ? null : expected.get(0)));
+			assertThat(message, spec.lastOccurrenceIn(interval),
+					is(expected.isEmpty() ? null : expected.get(expected.size() - 1)));
+			
+			for (CalendarDate date = interval.start(); date.isAfter(interval.end()) == false; date = date.plusDays(5)) {
+				CalendarDate next = null;
+				CalendarDate previous = null;
+				for (CalendarDate e : expected) {
+					if (next == null && e.isBefore(date) == false) {
+						next = e;
+					}
+					if (e.isAfter(date) == false) {
+						previous = e;
+					}
+				}
+				assertThat(message + " " + date, spec.nextOccurrence(date, interval.end()), is(next));
+				assertThat(message + " " + date, spec.previousOccurrence(date, interval.start()), is(previous));
+			}
+		}
+		
+		assertThat(tuesday.nextOccurrence(CalendarDate.from(2019, 6, 15), null), is(CalendarDate.from(2019, 6, 18)));
+		assertThat(leapDay.nextOccurrence(CalendarDate.from(2019, 6, 15), null), is(CalendarDate.from(2020, 2, 29)));
+		assertThat(leapDay.previousOccurrence(CalendarDate.from(2019, 6, 15), null), is(CalendarDate.from(2016, 2, 29)));
+		assertThat(day31.nextOccurrence(CalendarDate.from(2019, 4, 1), null), is(CalendarDate.from(2019, 5, 31)));
+		assertThat(DateSpecifications.never().nextOccurrence(CalendarDate.from(2019, 6, 15), null), is(nullValue()));
+	}
+	
+	/**
+	 * 毎月・毎年の暦日仕様が、キャッシュの有無に関わらず同じ結果を返すこと。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test09_occurrenceCache() throws Exception {
+		MonthlyDateSpecification cached = DateSpecifications.nthOccuranceOfWeekdayInEveryMonth(DayOfWeek.FRIDAY, 5);
+		DateSpecifications.configureOccurrenceCache(0);
+		MonthlyDateSpecification uncached;
+		try {
+			uncached = DateSpecifications.nthOccuranceOfWeekdayInEveryMonth(DayOfWeek.FRIDAY, 5);
+		} finally {
+			DateSpecifications.configureOccurrenceCache(DateSpecifications.DEFAULT_OCCURRENCE_CACHE_SIZE);
+		}
+		for (int i = 0; i < 2; i++) {
+			for (CalendarMonth month = CalendarMonth.from(2000, 1); month.isBefore(CalendarMonth.from(2030, 1)); month =
+					month.nextMonth()) {
+				CalendarDate expected;
+				try {
+					expected = uncached.ofYearMonth(month);
+				} catch (IllegalArgumentException e) {
+					expected = null;
+				}
+				try {
+					assertThat(month.toString(), cached.ofYearMonth(month), is(expected));
+				} catch (IllegalArgumentException e) {
+					assertThat(month.toString(), expected, is(nullValue()));
+				}
+			}
+		}
+		
+		AnnualDateSpecification thanksgiving =
+				DateSpecifications.nthOccuranceOfWeekdayInMonth(MonthOfYear.NOV, DayOfWeek.THURSDAY, 4);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(thanksgiving);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			AnnualDateSpecification deserialized = (AnnualDateSpecification) in.readObject();
+			assertThat(deserialized.ofYear(2004), is(CalendarDate.from(2004, 11, 25)));
+			assertThat(deserialized.ofYear(2004), is(thanksgiving.ofYear(2004)));
+		}
+	}
+	
+	/**
+	 * 満たす暦日が存在しない暦日仕様について、探索の限界を指定しない
+	 * {@link DateSpecification#nextOccurrence(CalendarDate, CalendarDate)}及び
+	 * {@link DateSpecification#previousOccurrence(CalendarDate, CalendarDate)}が終了すること。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test(timeout = 10000L)
+	public void test10_unsatisfiableWithoutLimit() throws Exception {
+		CalendarDate date = CalendarDate.from(2019, 4, 1);
+		DateSpecification tuesdayAndSaturday =
+				DateSpecifications.dayOfWeek(DayOfWeek.TUESDAY).and(DateSpecifications.dayOfWeek(DayOfWeek.SATURDAY));
+		assertThat(tuesdayAndSaturday.nextOccurrence(date, null), is(nullValue()));
+		assertThat(tuesdayAndSaturday.previousOccurrence(date, null), is(nullValue()));
+		
+		DateSpecification notAlways = DateSpecifications.always().not();
+		assertThat(notAlways.nextOccurrence(date, null), is(nullValue()));
+		assertThat(notAlways.previousOccurrence(date, null), is(nullValue()));
+		
+		// 満たす暦日が存在する場合は、限界を指定しなくても従来どおり見つかる
+		DateSpecification notWeekday = DateSpecifications.dayOfWeek(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY).not();
+		assertThat(notWeekday.nextOccurrence(CalendarDate.from(2019, 4, 6), null), is(CalendarDate.from(2019, 4, 8)));
+		assertThat(notWeekday.previousOccurrence(CalendarDate.from(2019, 4, 7), null),
+				is(CalendarDate.from(2019, 4, 5)));
+	}
 }
@@ -146,4 +146,81 @@ public class MonthlyFixedBusinessDateSpecificationTest {
 		assertThat(spec.isSatisfiedBy(CalendarDate.from(2010, 9, 12)), is(false));
 		assertThat(spec.isSatisfiedBy(CalendarDate.from(2010, 9, 13)), is(true));
 	}
+	
+	/**
+	 * 休日仕様を変更できる営業日カレンダーでは、変更後の休日仕様が反映されること。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test04_occurrenceCache() throws Exception {
+		BusinessCalendar cal = BusinessCalendarTest.japaneseBusinessCalendar();
+		MonthlyFixedBusinessDateSpecification spec = new MonthlyFixedBusinessDateSpecification(
+				DayOfMonth.valueOf(11), Shifter.NEXT, cal);
+		assertThat(spec.ofYearMonth(CalendarMonth.from(2010, 3)), is(CalendarDate.from(2010, 3, 11)));
+		cal.addHoliday(CalendarDate.from(2010, 3, 11));
+		assertThat(spec.ofYearMonth(CalendarMonth.from(2010, 3)), is(CalendarDate.from(2010, 3, 12)));
+		
+		BusinessCalendar immutable = BusinessCalendar.builder()
+			.addHolidaySpec(DateSpecifications.fixed(2, 11))
+			.build();
+		MonthlyFixedBusinessDateSpecification cached = new MonthlyFixedBusinessDateSpecification(
+				DayOfMonth.valueOf(11), Shifter.PREV, immutable);
+		for (int i = 0; i < 2; i++) {
+			assertThat(cached.ofYearMonth(CalendarMonth.from(2010, 2)), is(CalendarDate.from(2010, 2, 10)));
+			assertThat(cached.ofYearMonth(CalendarMonth.from(2010, 4)), is(CalendarDate.from(2010, 4, 9)));
+			assertThat(cached.isSatisfiedBy(CalendarDate.from(2010, 2, 10)), is(true));
+		}
+	}
+	
+	/**
+	 * 営業日への調整により翌月にずれる暦日も列挙されること。
+	 * 
+	 * <p>毎月30日（但し非営業日の場合は翌営業日）</p>
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test05_NextStrategyAcrossMonths() throws Exception {
+		BusinessCalendar cal = BusinessCalendarTest.japaneseBusinessCalendar();
+		MonthlyFixedBusinessDateSpecification spec = new MonthlyFixedBusinessDateSpecification(
+				DayOfMonth.valueOf(30), Shifter.NEXT, cal);
+		
+		Iterator<CalendarDate> itr = spec.iterateOver(CalendarInterval.inclusive(2012, 5, 1, 2012, 8, 31));
+		assertThat(itr.next(), is(CalendarDate.from(2012, 5, 30)));
+		assertThat(itr.next(), is(CalendarDate.from(2012, 7, 2))); // 6/30 is Saturday
+		assertThat(itr.next(), is(CalendarDate.from(2012, 7, 30)));
+		assertThat(itr.next(), is(CalendarDate.from(2012, 8, 30)));
+		assertThat(itr.hasNext(), is(false));
+		
+		assertThat(spec.nextOccurrence(CalendarDate.from(2012, 7, 1), null), is(CalendarDate.from(2012, 7, 2)));
+		assertThat(spec.previousOccurrence(CalendarDate.from(2012, 7, 29), null), is(CalendarDate.from(2012, 7, 2)));
+		assertThat(spec.lastOccurrenceIn(CalendarInterval.inclusive(2012, 6, 1, 2012, 7, 10)),
+				is(CalendarDate.from(2012, 7, 2)));
+	}
+	
+	/**
+	 * 営業日への調整により前月にずれる暦日も列挙されること。
+	 * 
+	 * <p>毎月1日（但し非営業日の場合は前営業日）</p>
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test06_PrevStrategyAcrossMonths() throws Exception {
+		BusinessCalendar cal = BusinessCalendarTest.japaneseBusinessCalendar();
+		MonthlyFixedBusinessDateSpecification spec = new MonthlyFixedBusinessDateSpecification(
+				DayOfMonth.valueOf(1), Shifter.PREV, cal);
+		
+		Iterator<CalendarDate> itr = spec.iterateOver(CalendarInterval.inclusive(2012, 6, 1, 2012, 10, 31));
+		assertThat(itr.next(), is(CalendarDate.from(2012, 6, 1)));
+		assertThat(itr.next(), is(CalendarDate.from(2012, 6, 29))); // 7/1 is Sunday
+		assertThat(itr.next(), is(CalendarDate.from(2012, 8, 1)));
+		assertThat(itr.next(), is(CalendarDate.from(2012, 8, 31))); // 9/1 is Saturday
+		assertThat(itr.next(), is(CalendarDate.from(2012, 10, 1)));
+		assertThat(itr.hasNext(), is(false));
+		
+		assertThat(spec.previousOccurrence(CalendarDate.from(2012, 7, 31), null), is(CalendarDate.from(2012, 6, 29)));
+		assertThat(spec.nextOccurrence(CalendarDate.from(2012, 6, 2), null), is(CalendarDate.from(2012, 6, 29)));
+	}
 }
@@ -22,6 +22,7 @@ import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Random;
 
 import jp.xet.baseunits.util.Ratio;
 
@@ -176,4 +177,49 @@ public class RatioTest {
 		assertThat(Ratio.of(100, 200).toString(), is("100/200"));
 		assertThat(Ratio.of(10, 20).toString(), is("10/20"));
 	}
+	
+	/**
+	 * 約分した値による計算が、分子と分母をそのまま用いた計算と一致すること。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test08_ReducedArithmetic() throws Exception {
+		Random random = new Random(0);
+		for (int i = 0; i < 10000; i++) {
+			BigDecimal n1 = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(10) - 3);
+			BigDecimal d1 = BigDecimal.valueOf((random.nextLong() >> random.nextInt(64)) | 1, random.nextInt(10) - 3);
+			BigDecimal n2 = BigDecimal.valueOf(random.nextInt(2000) - 1000, random.nextInt(4));
+			BigDecimal d2 = BigDecimal.valueOf(random.nextInt(1000) + 1, random.nextInt(4));
+			RoundingMode mode = RoundingMode.values()[random.nextInt(RoundingMode.values().length - 1)];
+			int scale = random.nextInt(20) - 5;
+			
+			Ratio r1 = Ratio.of(n1, d1);
+			Ratio r2 = Ratio.of(n2, d2);
+			String message = r1 + " * " + r2;
+			assertThat(message, r1.decimalValue(scale, mode), is(n1.divide(d1, scale, mode)));
+			assertThat(message, r1.decimalValue(scale, mode), is(n1.divide(d1, scale, mode)));
+			
+			Ratio product = r1.times(r2);
+			assertThat(message, product, is(Ratio.of(n1.multiply(n2), d1.multiply(d2))));
+			assertThat(message, product.decimalValue(scale, mode),
+					is(n1.multiply(n2).divide(d1.multiply(d2), scale, mode)));
+			assertThat(message, r1.times(n2).decimalValue(scale, mode), is(n1.multiply(n2).divide(d1, scale, mode)));
+			assertThat(message, r1.times(n2, scale, mode), is(n1.multiply(n2).divide(d1, scale, mode)));
+		}
+	}
+	
+	/**
+	 * {@link Ratio#times(BigDecimal, int, RoundingMode)}のテスト。
+	 * 
+	 * @throws Exception 例外が発生した場合
+	 */
+	@Test
+	public void test09_MultiplyToDecimal() throws Exception {
+		Ratio tax = Ratio.of(108, 100);
+		assertThat(tax.times(new BigDecimal("1980"), 0, RoundingMode.DOWN), is(new BigDecimal("2138")));
+		assertThat(tax.times(new BigDecimal("19.80"), 2, RoundingMode.HALF_UP), is(new BigDecimal("21.38")));
+		assertThat(Ratio.of(Long.MIN_VALUE, 3).times(BigDecimal.ONE, 0, RoundingMode.DOWN),
+				is(BigDecimal.valueOf(Long.MIN_VALUE / 3)));
+	}
 }